@@ -0,0 +1,100 @@
+package boggle.bench;
+
+import boggle.DictionaryLoader;
+import boggle.Lexicon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+* Word lists for the benchmarks. Words come from the word list named by the boggle.dictionary property,
+* or src/english.txt if it exists. Without one, a fixed set of made-up words is used so the numbers are still
+* comparable from run to run.
+*/
+final class BenchData {
+    /** Letter weights, roughly as often as each letter shows up in English words. */
+    private static final String WEIGHTED_LETTERS =
+        "eeeeeeeeeeeesssssssssiiiiiiiiiaaaaaaaarrrrrrrnnnnnnntttttttooooooolllllccccduuugppmmhhbyfvkwzxqj";
+    private static final int SYNTHETIC_WORDS = 200_000;
+
+    private static List<String> allWords;
+
+    private BenchData() {
+    }
+
+    /**
+     * Returns the first count words of the word list, or all of them if count is larger or "all" is given.
+     */
+    static List<String> words(String count) {
+        List<String> all = allWords();
+        if ("all".equals(count)) {
+            return all;
+        }
+        return all.subList(0, Math.min(all.size(), Integer.parseInt(count)));
+    }
+
+    /**
+     * Writes words in the same one-entry-per-line format as english.txt.
+     */
+    static ByteBuffer wordList(List<String> words) {
+        StringBuilder text = new StringBuilder(words.size() * 16);
+        text.append("{\n");
+        for (String word : words) {
+            text.append("  \"").append(word).append("\": [\"\"],\n");
+        }
+        text.append("}\n");
+        return ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
+    static Lexicon lexicon(List<String> words) {
+        return DictionaryLoader.parse(wordList(words));
+    }
+
+    private static synchronized List<String> allWords() {
+        if (allWords == null) {
+            Path file = Path.of(System.getProperty(DictionaryLoader.PROPERTY, DictionaryLoader.DEFAULT_FILE));
+            allWords = Files.isRegularFile(file) ? readWords(file) : syntheticWords();
+        }
+        return allWords;
+    }
+
+    private static List<String> readWords(Path file) {
+        List<String> words = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.ISO_8859_1)) {
+                int firstQuote = line.indexOf('"');
+                int secondQuote = line.indexOf('"', firstQuote + 1);
+                if (firstQuote >= 0 && secondQuote > firstQuote && line.contains(": [")) {
+                    String word = line.substring(firstQuote + 1, secondQuote).toLowerCase();
+                    if (word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                        words.add(word);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + file, e);
+        }
+        return words;
+    }
+
+    private static List<String> syntheticWords() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> words = new ArrayList<>(SYNTHETIC_WORDS);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < SYNTHETIC_WORDS; i++) {
+            word.setLength(0);
+            int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                word.append(WEIGHTED_LETTERS.charAt(random.nextInt(WEIGHTED_LETTERS.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
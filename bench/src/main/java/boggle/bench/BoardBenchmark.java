@@ -0,0 +1,129 @@
+package boggle.bench;
+
+import boggle.BoardGenerator;
+import boggle.BoardGeometry;
+import boggle.BoardSolver;
+import boggle.GameEngine;
+import boggle.Lexicon;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+* Making, solving and playing boards.
+* generate replaces generateLetterArr, newGenerator replaces findFrequency, isAdjacent replaces checkAdjacent
+* and createCoordinateMap, and wordScore replaces updatePoints. clickToSubmit plays one word the way the GUI does.
+* The boards set up for solve and clickToSubmit come from a fixed seed, so every run times the same boards.
+*/
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"3", "4", "5", "10"})
+    public int boardSize;
+
+    @Param({"1000", "10000", "100000", "all"})
+    public String dictionarySize;
+
+    private Lexicon lexicon;
+    private BoardGenerator generator;
+    private BoardSolver solver;
+    private BoardGeometry geometry;
+    private String[][] grid;
+    private BoardSolver.Solution solution;
+    private GameEngine engine;
+    private int[] path;
+    private int[] cellPairs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lexicon = BenchData.lexicon(BenchData.words(dictionarySize));
+        generator = new BoardGenerator(lexicon);
+        solver = new BoardSolver(lexicon);
+        geometry = BoardGeometry.of(boardSize);
+
+        // Use the first board with the most words out of a few, so the word played below is a long one
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < 100; i++) {
+            BoardSolver.Solution candidate = solver.solve(generator.generate(boardSize, random));
+            if (solution == null || candidate.wordCount() > solution.wordCount()) {
+                solution = candidate;
+            }
+        }
+        grid = solution.grid();
+        path = new int[0];
+        for (BoardSolver.FoundWord word : solution.words()) {
+            if (word.path().length > path.length) {
+                path = word.path();
+            }
+        }
+        if (path.length == 0) {
+            throw new IllegalStateException("No words found on any " + boardSize + "x" + boardSize + " board");
+        }
+        engine = new GameEngine(lexicon, size -> solution);
+
+        int cells = geometry.cellCount();
+        cellPairs = new int[2048];
+        for (int i = 0; i < cellPairs.length; i++) {
+            cellPairs[i] = (i * 7919) % cells;
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BoardGenerator newGenerator() {
+        return new BoardGenerator(lexicon);
+    }
+
+    @Benchmark
+    public String[][] generate() {
+        return generator.generate(boardSize);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BoardSolver.Solution solve() {
+        return solver.solve(grid);
+    }
+
+    @Benchmark
+    public boolean isAdjacent() {
+        int i = next;
+        next = (i + 2) & (cellPairs.length - 1);
+        return geometry.isAdjacent(cellPairs[i], cellPairs[i + 1]);
+    }
+
+    @Benchmark
+    public int wordScore() {
+        return BoardSolver.wordScore(3 + (next++ & 7));
+    }
+
+    @Benchmark
+    public GameEngine.SubmitResult clickToSubmit() {
+        engine.newRound(solution);
+        for (int cell : path) {
+            engine.click(cell);
+        }
+        engine.click(path[path.length - 1]); // Clicking the last letter again submits the word
+        return engine.lastSubmitResult();
+    }
+}
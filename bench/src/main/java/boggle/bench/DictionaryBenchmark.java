@@ -0,0 +1,96 @@
+package boggle.bench;
+
+import boggle.DictionaryLoader;
+import boggle.Lexicon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+* Loading the dictionary and looking words up in it.
+* parse and mapCompiled replace the old fileToArrayList; contains and containsMiss replace isValidWord.
+*/
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DictionaryBenchmark {
+    @Param({"1000", "10000", "100000", "all"})
+    public String dictionarySize;
+
+    private ByteBuffer wordList;
+    private Path compiled;
+    private Lexicon lexicon;
+    private String[] hits;
+    private String[] misses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> words = BenchData.words(dictionarySize);
+        wordList = BenchData.wordList(words);
+        lexicon = DictionaryLoader.parse(wordList.duplicate());
+        compiled = Files.createTempFile("bench", Lexicon.FILE_EXTENSION);
+        lexicon.write(compiled);
+
+        // Look up words from all over the list, plus the same words with one letter changed
+        hits = new String[1024];
+        misses = new String[1024];
+        for (int i = 0; i < hits.length; i++) {
+            String word = words.get((int) ((long) i * words.size() / hits.length));
+            hits[i] = word.toUpperCase();
+            misses[i] = hits[i].substring(0, hits[i].length() - 1) + 'Q';
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(compiled);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Lexicon parse() {
+        return DictionaryLoader.parse(wordList.duplicate());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Lexicon mapCompiled() throws IOException {
+        return Lexicon.map(compiled);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean contains() {
+        return lexicon.contains(hits[next++ & (hits.length - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsMiss() {
+        return lexicon.contains(misses[next++ & (misses.length - 1)]);
+    }
+}
@@ -0,0 +1,94 @@
+package boggle;
+
+import java.util.random.RandomGenerator;
+
+/**
+* Draws random indexes with fixed probabilities in constant time, using Vose's alias method.
+* Every index gets one column; each column holds a probability of keeping its own index and an "alias"
+* index to use otherwise. A draw picks a column and flips one biased coin, however many indexes there are.
+*
+* The table is immutable, so it can be shared between threads.
+*
+* SOURCES:
+* - https://www.keithschwarz.com/darts-dice-coins/
+* - https://en.wikipedia.org/wiki/Alias_method
+*/
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds the table. Weights don't need to add up to 1. If every weight is 0, all indexes are equally likely.
+     *
+     * @param weights The relative weight of each index
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        probability = new double[n];
+        alias = new int[n];
+
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        // Scale the weights so the average column is exactly 1, then split them into small and large columns
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = total > 0 ? weights[i] * n / total : 1.0;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // Fill each small column with its own weight and top it up from a large one
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full (up to rounding error)
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Draws one index.
+     *
+     * @param random The random source
+     * @return An index, with the probability given by its weight
+     */
+    public int sample(RandomGenerator random) {
+        double u = random.nextDouble() * probability.length;
+        int column = Math.min((int) u, probability.length - 1); // Guard against rounding up to the length
+        return (u - column) < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * @return The number of indexes
+     */
+    public int size() {
+        return probability.length;
+    }
+}
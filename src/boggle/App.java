@@ -0,0 +1,19 @@
+package boggle;
+
+public class App {
+    public static void main(String[] args) throws Exception {
+        String[] rest = args.length > 0 ? java.util.Arrays.copyOfRange(args, 1, args.length) : args;
+        if (args.length > 0 && args[0].equals("batch")) {
+            // Headless batch solve, e.g. "batch 1000000 8"
+            BatchSolver.main(rest);
+        } else if (args.length > 0 && args[0].equals("headless")) {
+            // Simulated games through the engine with no window, e.g. "headless 100000 4"
+            HeadlessGame.main(rest);
+        } else if (args.length > 0 && args[0].equals("server")) {
+            // Multiplayer game server on localhost, e.g. "server 4848"
+            GameServer.main(rest);
+        } else {
+            MainFrame.main(args);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package boggle;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+* Generates and solves large numbers of boards without a GUI, for tuning the game offline.
+* The work is split in half again and again with fork/join until each piece is small enough to run on one thread,
+* and the results are added back together on the way up.
+*
+* All worker threads share one immutable dictionary and one generator. Each thread has its own BoardSolver,
+* so the solver's scratch buffers are never shared.
+*
+* Every task has its own SplittableRandom, split off its parent's when the task is split. No thread ever waits on
+* another for random numbers, and the same seed gives the same boards however many threads run the batch.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ForkJoinPool.html
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/RecursiveTask.html
+* - https://docs.oracle.com/javase/8/docs/api/java/util/SplittableRandom.html
+*/
+public final class BatchSolver {
+    private static final long BOARDS_PER_TASK = 1024;
+
+    private final BoardGenerator generator;
+    private final int boardSize;
+    private final ThreadLocal<BoardSolver> solvers;
+
+    public BatchSolver(Lexicon dictionary, int boardSize) {
+        this.generator = new BoardGenerator(dictionary);
+        this.boardSize = boardSize;
+        this.solvers = ThreadLocal.withInitial(() -> new BoardSolver(dictionary));
+    }
+
+    /**
+     * Generates and solves a number of boards.
+     *
+     * @param boards The number of boards to generate
+     * @param parallelism The number of worker threads to use
+     * @return The combined statistics for all boards
+     */
+    public BatchResult run(long boards, int parallelism) {
+        return run(boards, parallelism, new SplittableRandom());
+    }
+
+    /**
+     * Generates and solves a number of boards from a seed. The same seed always gives the same result.
+     *
+     * @param boards The number of boards to generate
+     * @param parallelism The number of worker threads to use
+     * @param seed The seed for the random source
+     * @return The combined statistics for all boards
+     */
+    public BatchResult run(long boards, int parallelism, long seed) {
+        return run(boards, parallelism, new SplittableRandom(seed));
+    }
+
+    private BatchResult run(long boards, int parallelism, SplittableRandom random) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            BatchResult result = pool.invoke(new SolveTask(boards, random));
+            result.elapsedNanos = System.nanoTime() - start;
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Solves one piece of the batch, splitting it in two while it is bigger than BOARDS_PER_TASK.
+     */
+    private final class SolveTask extends RecursiveTask<BatchResult> {
+        private final long boards;
+        private final SplittableRandom random;
+
+        SolveTask(long boards, SplittableRandom random) {
+            this.boards = boards;
+            this.random = random;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (boards > BOARDS_PER_TASK) {
+                SolveTask left = new SolveTask(boards / 2, random.split());
+                SolveTask right = new SolveTask(boards - boards / 2, random);
+                left.fork();
+                BatchResult result = right.compute();
+                result.add(left.join());
+                return result;
+            }
+
+            BoardSolver solver = solvers.get();
+            BatchResult result = new BatchResult();
+            for (long i = 0; i < boards; i++) {
+                result.add(solver.solve(generator.generate(boardSize, random)));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Totals for a batch of solved boards.
+     */
+    public static final class BatchResult {
+        private long boards;
+        private long deadBoards;
+        private long totalWords;
+        private long totalMaxScore;
+        private int bestMaxScore;
+        private long elapsedNanos;
+
+        void add(BoardSolver.Solution solution) {
+            boards++;
+            if (solution.wordCount() == 0) {
+                deadBoards++;
+            }
+            totalWords += solution.wordCount();
+            totalMaxScore += solution.maxScore();
+            bestMaxScore = Math.max(bestMaxScore, solution.maxScore());
+        }
+
+        void add(BatchResult other) {
+            boards += other.boards;
+            deadBoards += other.deadBoards;
+            totalWords += other.totalWords;
+            totalMaxScore += other.totalMaxScore;
+            bestMaxScore = Math.max(bestMaxScore, other.bestMaxScore);
+        }
+
+        public long boards() {
+            return boards;
+        }
+
+        public long deadBoards() {
+            return deadBoards;
+        }
+
+        public double averageWords() {
+            return boards == 0 ? 0 : (double) totalWords / boards;
+        }
+
+        public double averageMaxScore() {
+            return boards == 0 ? 0 : (double) totalMaxScore / boards;
+        }
+
+        public int bestMaxScore() {
+            return bestMaxScore;
+        }
+
+        public double boardsPerSecond() {
+            return elapsedNanos == 0 ? 0 : boards * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d boards in %.2f s (%.0f boards/s), %.1f words and %.0f points per board on average, "
+                    + "best board %d points, %d boards with no words",
+                    boards, elapsedNanos / 1e9, boardsPerSecond(), averageWords(), averageMaxScore(), bestMaxScore, deadBoards);
+        }
+    }
+
+    /**
+     * Runs a batch from the command line.
+     * Arguments: [boards] [threads] [dictionary location] [board size] [seed]. Pass "scaling" as the threads to run with 1, 2, 4...
+     * threads and then every core, to check how the throughput grows. With a seed, every run gives the same boards.
+     */
+    public static void main(String[] args) {
+        long boards = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        String threads = args.length > 1 ? args[1] : String.valueOf(Runtime.getRuntime().availableProcessors());
+        Lexicon dictionary = args.length > 2 ? loadOrExit(args[2]) : DictionaryLoader.loadConfigured();
+
+        int boardSize = args.length > 3 ? Integer.parseInt(args[3]) : BoardGeometry.MIN_SIZE;
+        Long seed = args.length > 4 ? Long.valueOf(args[4]) : null;
+
+        BatchSolver batch = new BatchSolver(dictionary, boardSize);
+        if (threads.equals("scaling")) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            // Doubling each time, and always ending on every core even when that isn't a power of 2 (e.g. 1, 2, 4, 6)
+            for (int parallelism = 1; ; parallelism = Math.min(parallelism * 2, cores)) {
+                System.out.println(parallelism + " threads: " + (seed != null ? batch.run(boards, parallelism, seed) : batch.run(boards, parallelism)));
+                if (parallelism == cores) {
+                    break;
+                }
+            }
+        } else {
+            int parallelism = Integer.parseInt(threads);
+            System.out.println(seed != null ? batch.run(boards, parallelism, seed) : batch.run(boards, parallelism));
+        }
+    }
+
+    private static Lexicon loadOrExit(String location) {
+        try {
+            return DictionaryLoader.load(location);
+        } catch (java.io.IOException ex) {
+            System.err.println("Could not load dictionary: " + ex.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+}
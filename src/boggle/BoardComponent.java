@@ -0,0 +1,296 @@
+package boggle;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+* Draws the letter grid and the selected path as one component, instead of one JButton per cell.
+* It works out which cell is under the mouse itself, so a word can be picked by clicking the letters one at a time
+* (like the old buttons) or by dragging across them.
+*
+* The component reads the board and the path straight from the engine's SelectionPath. When the path changes,
+* only the cells whose look changed (and the lines between them) are repainted, not the whole board.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/tutorial/uiswing/painting/index.html
+* - https://www.oracle.com/java/technologies/painting.html
+*/
+public final class BoardComponent extends JComponent {
+    private static final int GAP = 5;
+    private static final double DRAG_HIT_RADIUS = 0.38; // While dragging, only the middle of a cell counts, so diagonals are easy
+    private static final Color PATH_COLOR = new Color(40, 40, 160, 140);
+
+    /**
+     * What the player did on the board.
+     */
+    public interface Listener {
+        /** A cell was clicked without dragging, like pressing the old button. */
+        void cellClicked(int cell);
+
+        /** A drag moved onto a cell (the cell the drag started on is reported first). */
+        void cellDragged(int cell);
+
+        /** The mouse was let go after dragging over more than one cell. */
+        void dragFinished();
+
+        /** The right mouse button was pressed. */
+        void undoRequested();
+    }
+
+    private final Font baseFont;
+    private final Color selectedColor;
+    private final Listener listener;
+
+    private String[][] grid = new String[0][0];
+    private SelectionPath selection;
+    private int size;
+
+    // The path as it was last painted, to work out what changed
+    private final int[] shownCells = new int[BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE];
+    private int shownLength;
+
+    // Cached layout, worked out again when the component is resized
+    private int layoutWidth = -1;
+    private int layoutHeight = -1;
+    private int cellSize;
+    private int originX;
+    private int originY;
+    private Font letterFont;
+    private BasicStroke pathStroke; // Its width goes with the cell size
+
+    // Mouse state
+    private int pressedCell = -1;
+    private int lastDragCell = -1;
+    private boolean dragging;
+
+    /**
+     * @param baseFont The font for the letters; its size is changed to fit the cells
+     * @param selectedColor The background of selected cells
+     * @param listener Gets the player's clicks and drags
+     */
+    public BoardComponent(Font baseFont, Color selectedColor, Listener listener) {
+        this.baseFont = baseFont;
+        this.selectedColor = selectedColor;
+        this.listener = listener;
+        setOpaque(true);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    listener.undoRequested();
+                    return;
+                }
+                pressedCell = cellAt(e.getX(), e.getY(), 0.5);
+                lastDragCell = pressedCell;
+                dragging = false;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (pressedCell < 0 || !SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int cell = cellAt(e.getX(), e.getY(), DRAG_HIT_RADIUS);
+                if (cell < 0 || cell == lastDragCell) {
+                    return;
+                }
+                if (!dragging) {
+                    dragging = true;
+                    listener.cellDragged(pressedCell);
+                }
+                lastDragCell = cell;
+                listener.cellDragged(cell);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (pressedCell < 0 || !SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                if (dragging) {
+                    listener.dragFinished();
+                } else if (cellAt(e.getX(), e.getY(), 0.5) == pressedCell) {
+                    listener.cellClicked(pressedCell);
+                }
+                pressedCell = -1;
+                dragging = false;
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    /**
+     * Shows a new board. The whole component is repainted.
+     *
+     * @param grid The letter grid
+     * @param selection The path being built on it, read whenever the board is painted
+     */
+    public void setBoard(String[][] grid, SelectionPath selection) {
+        this.grid = grid;
+        this.selection = selection;
+        this.size = grid.length;
+        this.layoutWidth = -1; // The cell size depends on the board size
+        copySelection();
+        pressedCell = -1;
+        dragging = false;
+        repaint();
+    }
+
+    /**
+     * Repaints the cells that were added to or removed from the path since it was last shown, and the lines
+     * leading to them. Cells before the first change keep their look, so they are not repainted.
+     */
+    public void selectionChanged() {
+        int length = selection.length();
+        int same = 0;
+        while (same < length && same < shownLength && selection.cell(same) == shownCells[same]) {
+            same++;
+        }
+        if (same == length && same == shownLength) {
+            return;
+        }
+
+        // The cell before the first change is included, since the line from it changes too
+        Rectangle dirty = null;
+        for (int i = Math.max(0, same - 1); i < shownLength; i++) {
+            dirty = union(dirty, cellBounds(shownCells[i]));
+        }
+        for (int i = Math.max(0, same - 1); i < length; i++) {
+            dirty = union(dirty, cellBounds(selection.cell(i)));
+        }
+        copySelection();
+        repaint(dirty);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        return new Dimension(400, 300);
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            Rectangle clip = g.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            g.setColor(getBackground());
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+            if (size == 0) {
+                return;
+            }
+            updateLayout();
+
+            // Cells, skipping the ones outside the area being repainted
+            g.setFont(letterFont);
+            FontMetrics metrics = g.getFontMetrics();
+            int arc = cellSize / 5;
+            for (int cell = 0; cell < size * size; cell++) {
+                Rectangle bounds = cellBounds(cell);
+                if (!bounds.intersects(clip)) {
+                    continue;
+                }
+                g.setColor(selection.contains(cell) ? selectedColor : Color.WHITE);
+                g.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, arc, arc);
+                String letter = grid[cell / size][cell % size];
+                g.setColor(Color.BLACK);
+                g.drawString(letter, bounds.x + (bounds.width - metrics.stringWidth(letter)) / 2,
+                        bounds.y + (bounds.height - metrics.getHeight()) / 2 + metrics.getAscent());
+            }
+
+            // The path, as a line through the middle of each selected cell
+            int length = selection.length();
+            if (length > 1) {
+                g.setColor(PATH_COLOR);
+                g.setStroke(pathStroke);
+                for (int i = 1; i < length; i++) {
+                    Rectangle from = cellBounds(selection.cell(i - 1));
+                    Rectangle to = cellBounds(selection.cell(i));
+                    g.drawLine((int) from.getCenterX(), (int) from.getCenterY(), (int) to.getCenterX(), (int) to.getCenterY());
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Works out the cell size and where the board starts, keeping the board square and centered.
+     */
+    private void updateLayout() {
+        if (layoutWidth == getWidth() && layoutHeight == getHeight()) {
+            return;
+        }
+        layoutWidth = getWidth();
+        layoutHeight = getHeight();
+        int side = Math.min(layoutWidth, layoutHeight);
+        cellSize = Math.max(1, (side - GAP * (size + 1)) / size);
+        int boardSide = cellSize * size + GAP * (size + 1);
+        originX = (layoutWidth - boardSide) / 2 + GAP;
+        originY = (layoutHeight - boardSide) / 2 + GAP;
+        letterFont = baseFont.deriveFont((float) Math.max(8, cellSize / 2));
+        pathStroke = new BasicStroke(Math.max(3, cellSize / 7f), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    }
+
+    private Rectangle cellBounds(int cell) {
+        updateLayout();
+        int x = originX + (cell % size) * (cellSize + GAP);
+        int y = originY + (cell / size) * (cellSize + GAP);
+        return new Rectangle(x, y, cellSize, cellSize);
+    }
+
+    /**
+     * Hit-tests a point.
+     *
+     * @param radius How far from the middle of a cell still counts, as a fraction of the cell size (0.5 is the whole cell)
+     * @return The cell under the point, or -1 if it is between cells or off the board
+     */
+    private int cellAt(int x, int y, double radius) {
+        if (size == 0) {
+            return -1;
+        }
+        updateLayout();
+        int col = Math.floorDiv(x - originX, cellSize + GAP);
+        int row = Math.floorDiv(y - originY, cellSize + GAP);
+        if (row < 0 || col < 0 || row >= size || col >= size) {
+            return -1;
+        }
+        int cell = row * size + col;
+        Rectangle bounds = cellBounds(cell);
+        double reach = radius * cellSize;
+        if (Math.abs(x - bounds.getCenterX()) > reach || Math.abs(y - bounds.getCenterY()) > reach) {
+            return -1;
+        }
+        return cell;
+    }
+
+    private void copySelection() {
+        shownLength = selection == null ? 0 : selection.length();
+        for (int i = 0; i < shownLength; i++) {
+            shownCells[i] = selection.cell(i);
+        }
+    }
+
+    private static Rectangle union(Rectangle a, Rectangle b) {
+        return a == null ? b : a.union(b);
+    }
+}
@@ -0,0 +1,163 @@
+package boggle;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+* Generates random letter grids for BOGGLE, weighted by how often each letter appears in the dictionary.
+* A 3x3 grid is 8 letters drawn from the whole alphabet plus 1 vowel, with the vowel placed in the middle.
+* Bigger grids get one vowel for every 9 cells.
+*
+* The letter frequencies are worked out once when the generator is created and turned into alias tables,
+* so drawing a letter takes constant time and a new board never looks at the dictionary again.
+* A generator is immutable and can be shared between threads.
+*
+* The random source can be passed in. Without one, each thread uses its own ThreadLocalRandom, so threads never
+* wait on each other. With a seeded SplittableRandom the same seed always gives the same boards (for the same
+* dictionary), which allows replays, repeatable batch runs, and a daily board that every player shares.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/SplittableRandom.html
+*/
+public final class BoardGenerator {
+    private static final String VOWELS = "aeiou";
+
+    // One uppercase String per letter, so filling a grid doesn't create new Strings
+    private static final String[] UPPERCASE = new String[26];
+    static {
+        for (int i = 0; i < 26; i++) {
+            UPPERCASE[i] = String.valueOf((char) ('A' + i));
+        }
+    }
+
+    private final AliasTable letterTable;
+    private final AliasTable vowelTable;
+
+    /**
+     * Creates a generator using the letter frequencies of a dictionary.
+     *
+     * @param dictionary The dictionary to take letter frequencies from
+     */
+    public BoardGenerator(Lexicon dictionary) {
+        this.letterTable = new AliasTable(findFrequency(dictionary));
+        this.vowelTable = new AliasTable(findVowelFrequency(dictionary));
+    }
+
+    /**
+     * Generates a 3x3 letter grid with random letters based on frequency data from the dictionary.
+     *
+     * @return A 2D array representing the letter grid, in uppercase
+     */
+    public String[][] generate() {
+        return generate(BoardGeometry.MIN_SIZE);
+    }
+
+    /**
+     * Generates a square letter grid with random letters based on frequency data from the dictionary.
+     * Every board gets one vowel for each 9 cells (rounded up); the first one goes in the middle and
+     * the rest go in random cells. All the other letters come from the whole alphabet.
+     * CONTRIBUTOR: Chloe
+     *
+     * @param size The number of rows and columns
+     * @return A 2D array representing the letter grid, in uppercase
+     */
+    public String[][] generate(int size) {
+        return generate(size, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a square letter grid using the given random source. The same source state always gives the same grid.
+     *
+     * @param size The number of rows and columns
+     * @param random The random source; not shared with other threads while this runs
+     * @return A 2D array representing the letter grid, in uppercase
+     */
+    public String[][] generate(int size, RandomGenerator random) {
+        long start = Metrics.start();
+        String[][] grid = new String[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                grid[i][j] = UPPERCASE[letterTable.sample(random)];
+            }
+        }
+
+        int vowels = (size * size + 8) / 9;
+        boolean[] hasVowel = new boolean[size * size];
+        int cell = (size / 2) * size + size / 2; //vowel in the middle first
+        for (int placed = 0; placed < vowels; placed++) {
+            while (hasVowel[cell]) {
+                cell = random.nextInt(size * size);
+            }
+            hasVowel[cell] = true;
+            grid[cell / size][cell % size] = randomVowel(random);
+        }
+        Metrics.BOARD_GENERATE.stop(start);
+        return grid;
+    }
+
+    /**
+     * Generates the board of the day. Everyone using the same dictionary gets the same board for a given day and size.
+     *
+     * @param size The number of rows and columns
+     * @param date The day
+     * @return A 2D array representing the letter grid, in uppercase
+     */
+    public String[][] generateDaily(int size, LocalDate date) {
+        return generate(size, new SplittableRandom(dailySeed(date, size)));
+    }
+
+    /**
+     * @param date The day
+     * @param size The number of rows and columns
+     * @return The seed of the daily board for that day and size
+     */
+    public static long dailySeed(LocalDate date, int size) {
+        return date.toEpochDay() * 31 + size;
+    }
+
+    private String randomVowel(RandomGenerator random) {
+        return UPPERCASE[VOWELS.charAt(vowelTable.sample(random)) - 'a'];
+    }
+
+    /**
+     * Finds the frequency of each letter in the dictionary
+     * CONTRIBUTOR: Chloe
+     *
+     * @param allWords The dictionary to analyze
+     * @return The frequency of each letter in the alphabet, indexed from 'a'
+     */
+    public static double[] findFrequency(Lexicon allWords) {
+        long totalCharacters = 0;
+        for (int i = 0; i < 26; i++) { //count total characters for denominator of bucket variable
+            totalCharacters += allWords.letterCount(i); //letter counts are tallied once when the trie is built
+        }
+
+        double[] frequencies = new double[26];
+        //divide each count by total characters to get the frequencies
+        for (int i = 0; i < 26 && totalCharacters > 0; i++) {
+            frequencies[i] = (double) allWords.letterCount(i) / totalCharacters;
+        }
+        return frequencies;
+    }
+
+    /**
+     * Finds the frequency of vowels in the dictionary.
+     * CONTRIBUTOR: Chloe
+     *
+     * @param allWords The dictionary to analyze
+     * @return The frequency of each vowel, in the order a, e, i, o, u
+     */
+    public static double[] findVowelFrequency(Lexicon allWords) {
+        long totalVowels = 0;
+        for (int i = 0; i < 5; i++) { // count total characters
+            totalVowels += allWords.letterCount(VOWELS.charAt(i) - 'a');
+        }
+        double[] vowelFrequencies = new double[5];
+        for (int i = 0; i < 5 && totalVowels > 0; i++) {
+            vowelFrequencies[i] = (double) allWords.letterCount(VOWELS.charAt(i) - 'a') / totalVowels; // divide each count by total characters to get the frequencies
+        }
+        return vowelFrequencies;
+    }
+}
@@ -0,0 +1,109 @@
+package boggle;
+
+/**
+* The shape of a square BOGGLE board: its size and which cells touch each other.
+* Cells are numbered row by row, so cell = row * size + column.
+*
+* For every cell the neighbouring cells are stored as a bitmask (one bit per cell). A board has at most 100 cells,
+* so a mask is one or two longs. Checking whether two cells are adjacent is a single bit test and allocates nothing.
+* Geometries are created once per size and shared.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Bit_array
+*/
+public final class BoardGeometry {
+    public static final int MIN_SIZE = 3;
+    public static final int MAX_SIZE = 10;
+
+    private static final BoardGeometry[] GEOMETRIES = new BoardGeometry[MAX_SIZE + 1];
+    static {
+        for (int size = MIN_SIZE; size <= MAX_SIZE; size++) {
+            GEOMETRIES[size] = new BoardGeometry(size);
+        }
+    }
+
+    private final int size;
+    private final int cellCount;
+    private final int words; // longs per mask
+    private final long[] neighbours; // neighbours[cell * words + w] = bits w*64 .. w*64+63 of the cell's mask
+
+    private BoardGeometry(int size) {
+        this.size = size;
+        this.cellCount = size * size;
+        this.words = (cellCount + 63) / 64;
+        this.neighbours = new long[cellCount * words];
+
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int cell = row * size + col;
+                // The up to 8 cells around this one that are still on the board
+                for (int r = Math.max(0, row - 1); r <= Math.min(size - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(size - 1, col + 1); c++) {
+                        int neighbour = r * size + c;
+                        if (neighbour != cell) {
+                            neighbours[cell * words + (neighbour >>> 6)] |= 1L << neighbour;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param size The number of rows (and columns), from MIN_SIZE to MAX_SIZE
+     * @return The shared geometry for that size
+     */
+    public static BoardGeometry of(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between " + MIN_SIZE + " and " + MAX_SIZE + ": " + size);
+        }
+        return GEOMETRIES[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int cellCount() {
+        return cellCount;
+    }
+
+    /**
+     * @return The number of longs needed to hold one bit per cell
+     */
+    public int maskWords() {
+        return words;
+    }
+
+    public int cell(int row, int col) {
+        return row * size + col;
+    }
+
+    public int row(int cell) {
+        return cell / size;
+    }
+
+    public int col(int cell) {
+        return cell % size;
+    }
+
+    /**
+     * @param a A cell
+     * @param b Another cell
+     * @return true if the two cells touch, including diagonally
+     */
+    public boolean isAdjacent(int a, int b) {
+        return (neighbours[a * words + (b >>> 6)] & (1L << b)) != 0;
+    }
+
+    /**
+     * Returns one long of a cell's neighbour mask. Bit i of word w stands for cell w * 64 + i.
+     *
+     * @param cell The cell
+     * @param word Which long of the mask, from 0 to maskWords() - 1
+     * @return The bits of the mask
+     */
+    public long neighbours(int cell, int word) {
+        return neighbours[cell * words + word];
+    }
+}
@@ -0,0 +1,121 @@
+package boggle;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+* Keeps a queue of boards that are known to be worth playing, so a new game never has to wait for one.
+* A board is only kept if it has at least a minimum number of words and a minimum best possible score;
+* everything else is thrown away and a new board is drawn.
+*
+* A background thread solves boards and keeps the queue full. If the queue is ever empty when a game starts,
+* the board is generated on the calling thread instead.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ArrayBlockingQueue.html
+* - https://en.wikipedia.org/wiki/Rejection_sampling
+*/
+public final class BoardPool implements AutoCloseable {
+    // Give up on the minimums after this many rejected boards, so a strict setting can't hang the game
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    private final BoardGenerator generator;
+    private final Lexicon dictionary;
+    private final int boardSize;
+    private final int minWords;
+    private final int minMaxScore;
+    private final BlockingQueue<BoardSolver.Solution> boards;
+    private final Thread producer;
+
+    /**
+     * Creates the pool and starts filling it in the background.
+     *
+     * @param generator The generator to draw boards from
+     * @param dictionary The dictionary used to solve boards
+     * @param boardSize The number of rows and columns of each board
+     * @param minWords The fewest words a board may have
+     * @param minMaxScore The lowest best possible score a board may have
+     * @param capacity How many boards to keep ready
+     */
+    public BoardPool(BoardGenerator generator, Lexicon dictionary, int boardSize, int minWords, int minMaxScore, int capacity) {
+        this.generator = generator;
+        this.dictionary = dictionary;
+        this.boardSize = boardSize;
+        this.minWords = minWords;
+        this.minMaxScore = minMaxScore;
+        this.boards = new ArrayBlockingQueue<>(capacity);
+
+        producer = new Thread(this::fill, "board-pool");
+        producer.setDaemon(true); // Don't keep the game running after the window closes
+        producer.setPriority(Thread.MIN_PRIORITY);
+        producer.start();
+    }
+
+    /**
+     * Takes a ready board from the pool, or makes one now if the pool is empty.
+     *
+     * @return A solved board that meets the minimums
+     */
+    public BoardSolver.Solution next() {
+        BoardSolver.Solution board = boards.poll();
+        if (board == null) {
+            board = generatePlayable(new BoardSolver(dictionary));
+        }
+        return board;
+    }
+
+    /**
+     * @return The number of rows and columns of the boards in this pool
+     */
+    public int boardSize() {
+        return boardSize;
+    }
+
+    /**
+     * @return The number of boards ready right now
+     */
+    public int available() {
+        return boards.size();
+    }
+
+    /**
+     * @param solution A solved board
+     * @return true if the board has enough words and points to be worth playing
+     */
+    public boolean isPlayable(BoardSolver.Solution solution) {
+        return solution.wordCount() >= minWords && solution.maxScore() >= minMaxScore;
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        producer.interrupt();
+    }
+
+    private void fill() {
+        BoardSolver solver = new BoardSolver(dictionary);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boards.put(generatePlayable(solver)); // Blocks while the queue is full
+            }
+        } catch (InterruptedException ex) {
+            // Pool closed
+        }
+    }
+
+    private BoardSolver.Solution generatePlayable(BoardSolver solver) {
+        BoardSolver.Solution best = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            BoardSolver.Solution solution = solver.solve(generator.generate(boardSize));
+            if (isPlayable(solution)) {
+                return solution;
+            }
+            if (best == null || solution.maxScore() > best.maxScore()) {
+                best = solution;
+            }
+        }
+        return best;
+    }
+}
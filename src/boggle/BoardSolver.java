@@ -0,0 +1,185 @@
+package boggle;
+
+import java.util.*;
+
+/**
+* Finds every dictionary word that can be spelled on a letter grid by moving between adjacent cells
+* without reusing a cell. The search walks the lexicon trie alongside the board, so a path is dropped
+* as soon as its letters stop being the start of any word.
+*
+* A solver keeps small scratch buffers between calls, so one instance should only be used by one thread at a time.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Depth-first_search
+*/
+public final class BoardSolver {
+    public static final int MIN_WORD_LENGTH = 3;
+
+    private final Lexicon lexicon;
+    private boolean[] visited = new boolean[0];
+    private int[] path = new int[0];
+    private char[] letters = new char[0];
+
+    public BoardSolver(Lexicon lexicon) {
+        this.lexicon = lexicon;
+    }
+
+    /**
+     * Returns the points a word of the given length is worth (100 points per letter, nothing for short words).
+     *
+     * @param length The length of the word
+     * @return The score for the word
+     */
+    public static int wordScore(int length) {
+        return length < MIN_WORD_LENGTH ? 0 : length * 100;
+    }
+
+    /**
+     * Finds all words on the grid.
+     *
+     * @param grid The square letter grid, one letter per cell
+     * @return The words found with their scores and paths
+     */
+    public Solution solve(String[][] grid) {
+        BoardGeometry geometry = BoardGeometry.of(grid.length);
+        int cells = geometry.cellCount();
+        if (visited.length < cells) {
+            visited = new boolean[cells];
+            path = new int[cells];
+            letters = new char[cells];
+        }
+
+        Map<String, FoundWord> found = new LinkedHashMap<>();
+        for (int cell = 0; cell < cells; cell++) {
+            search(grid, geometry, cell, Lexicon.ROOT, 0, found);
+        }
+        return new Solution(grid, new ArrayList<>(found.values()));
+    }
+
+    private void search(String[][] grid, BoardGeometry geometry, int cell, int node, int depth, Map<String, FoundWord> found) {
+        char letter = grid[geometry.row(cell)][geometry.col(cell)].charAt(0);
+        int next = lexicon.step(node, letter);
+        if (next == Lexicon.NONE) {
+            return; // No word starts with this path
+        }
+
+        visited[cell] = true;
+        path[depth] = cell;
+        letters[depth] = Character.toUpperCase(letter);
+        int length = depth + 1;
+
+        if (length >= MIN_WORD_LENGTH && lexicon.isWord(next)) {
+            String word = new String(letters, 0, length);
+            if (!found.containsKey(word)) {
+                found.put(word, new FoundWord(word, wordScore(length), Arrays.copyOf(path, length)));
+            }
+        }
+
+        if (lexicon.hasChildren(next)) {
+            // Visit every neighbour that isn't already in the path, one set bit of the neighbour mask at a time
+            for (int word = 0; word < geometry.maskWords(); word++) {
+                for (long bits = geometry.neighbours(cell, word); bits != 0; bits &= bits - 1) {
+                    int neighbour = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (!visited[neighbour]) {
+                        search(grid, geometry, neighbour, next, length, found);
+                    }
+                }
+            }
+        }
+        visited[cell] = false;
+    }
+
+    /**
+     * A word found on the board, its score, and the cells used to spell it (cell = row * size + column).
+     */
+    public static final class FoundWord {
+        private final String word;
+        private final int score;
+        private final int[] path;
+
+        FoundWord(String word, int score, int[] path) {
+            this.word = word;
+            this.score = score;
+            this.path = path;
+        }
+
+        public String word() {
+            return word;
+        }
+
+        public int score() {
+            return score;
+        }
+
+        public int[] path() {
+            return path.clone();
+        }
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
+
+    /**
+     * Every word that can be made on one board, and the best possible score for that board.
+     */
+    public static final class Solution {
+        private final String[][] grid;
+        private final List<FoundWord> words;
+        private final Map<String, FoundWord> byWord;
+        private final int maxScore;
+
+        Solution(String[][] grid, List<FoundWord> words) {
+            this.grid = grid;
+            this.words = Collections.unmodifiableList(words);
+            this.byWord = new HashMap<>();
+            int total = 0;
+            for (FoundWord word : words) {
+                byWord.put(word.word(), word);
+                total += word.score();
+            }
+            this.maxScore = total;
+        }
+
+        public String[][] grid() {
+            return grid;
+        }
+
+        public List<FoundWord> words() {
+            return words;
+        }
+
+        public int wordCount() {
+            return words.size();
+        }
+
+        public int maxScore() {
+            return maxScore;
+        }
+
+        /**
+         * @param word An uppercase word
+         * @return true if the word can be made on this board
+         */
+        public boolean contains(String word) {
+            return byWord.containsKey(word);
+        }
+
+        /**
+         * Lists the words on the board that are not in the given collection, in the order they were found.
+         *
+         * @param wordsFound The uppercase words the player found
+         * @return The words that were missed
+         */
+        public List<String> missedWords(Collection<String> wordsFound) {
+            List<String> missed = new ArrayList<>();
+            for (FoundWord word : words) {
+                if (!wordsFound.contains(word.word())) {
+                    missed.add(word.word());
+                }
+            }
+            return missed;
+        }
+    }
+}
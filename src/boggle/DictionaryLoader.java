@@ -0,0 +1,246 @@
+package boggle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+* Loads the dictionary from a file or a classpath resource.
+*
+* The location comes from the boggle.dictionary system property. It can be a file path or "classpath:name".
+* When the property isn't set, english.txt is loaded from the classpath, or from src/english.txt if it isn't on the classpath.
+*
+* Word lists use the english.txt format, where each entry is a line like  "word": [ ... ],  and the word is the text
+* inside the first pair of quotes. The file is read into an NIO buffer, cut into chunks at line breaks, and the chunks
+* are parsed in parallel. Each chunk adds its words straight into its own Lexicon.Builder, and the builders are merged
+* trie to trie, node by node, as the parallel tasks join, so no list of word strings is ever built.
+*
+* A compiled .lex file (see LexiconCompiler) is memory-mapped instead. A .lex file sitting next to the word list is used
+* when it is at least as new as the word list.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/nio/channels/FileChannel.html
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/RecursiveTask.html
+*/
+public final class DictionaryLoader {
+    public static final String PROPERTY = "boggle.dictionary";
+    public static final String CLASSPATH_PREFIX = "classpath:";
+    public static final String DEFAULT_RESOURCE = "english.txt";
+    public static final String DEFAULT_FILE = "src/english.txt";
+
+    private static final int MIN_CHUNK_BYTES = 256 * 1024;
+    private static final int READ_BYTES = 64 * 1024;
+
+    private DictionaryLoader() {
+    }
+
+    /**
+     * @return The configured dictionary location
+     */
+    public static String configuredLocation() {
+        String location = System.getProperty(PROPERTY);
+        if (location != null && !location.isEmpty()) {
+            return location;
+        }
+        if (DictionaryLoader.class.getClassLoader().getResource(DEFAULT_RESOURCE) != null) {
+            return CLASSPATH_PREFIX + DEFAULT_RESOURCE;
+        }
+        return DEFAULT_FILE;
+    }
+
+    /**
+     * Loads the configured dictionary. If it can't be read, the error is printed and an empty dictionary is returned.
+     *
+     * @return The dictionary
+     */
+    public static Lexicon loadConfigured() {
+        String location = configuredLocation();
+        try {
+            return load(location);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return Lexicon.of(Collections.<String>emptyList());
+        }
+    }
+
+    /**
+     * Loads a dictionary from a file path or "classpath:name".
+     *
+     * @param location Where to load from
+     * @return The dictionary
+     * @throws IOException if the dictionary can't be read
+     */
+    public static Lexicon load(String location) throws IOException {
+        long start = Metrics.start();
+        try {
+            return loadUntimed(location);
+        } finally {
+            Metrics.DICTIONARY_LOAD.stop(start);
+        }
+    }
+
+    private static Lexicon loadUntimed(String location) throws IOException {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            String name = location.substring(CLASSPATH_PREFIX.length());
+            try (InputStream in = DictionaryLoader.class.getClassLoader().getResourceAsStream(name)) {
+                if (in == null) {
+                    throw new IOException("Dictionary resource not found: " + name);
+                }
+                return parse(readAll(Channels.newChannel(in)));
+            }
+        }
+
+        Path source = Paths.get(location);
+        if (location.endsWith(Lexicon.FILE_EXTENSION)) {
+            return Lexicon.map(source);
+        }
+        Path compiled = LexiconCompiler.compiledPathFor(source);
+        if (Files.exists(compiled) && (!Files.exists(source)
+                || Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(source)) >= 0)) {
+            return Lexicon.map(compiled);
+        }
+        return parseFile(source);
+    }
+
+    /**
+     * Parses a word list file, ignoring any compiled lexicon next to it.
+     *
+     * @param file The word list
+     * @return The dictionary
+     * @throws IOException if the file can't be read
+     */
+    public static Lexicon parseFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Parses a word list held in a buffer, splitting the work across all cores.
+     *
+     * @param content The word list; only the bytes between position and limit are read
+     * @return The dictionary
+     */
+    public static Lexicon parse(ByteBuffer content) {
+        int start = content.position();
+        int end = content.limit();
+        int cores = Runtime.getRuntime().availableProcessors();
+        int chunks = Math.max(1, Math.min(cores * 4, (end - start) / MIN_CHUNK_BYTES));
+
+        // Cut the buffer into roughly equal chunks, moving each cut forward to just after a line break
+        int[] cuts = new int[chunks + 1];
+        cuts[0] = start;
+        for (int i = 1; i < chunks; i++) {
+            int cut = Math.max(cuts[i - 1], start + (int) ((long) (end - start) * i / chunks));
+            while (cut > start && cut < end && content.get(cut - 1) != '\n') {
+                cut++;
+            }
+            cuts[i] = cut;
+        }
+        cuts[chunks] = end;
+
+        return ForkJoinPool.commonPool().invoke(new ParseTask(content, cuts, 0, chunks)).build();
+    }
+
+    /**
+     * Parses a range of chunks, splitting it in two until there is one chunk left, then merges the two builders.
+     */
+    private static final class ParseTask extends RecursiveTask<Lexicon.Builder> {
+        private final ByteBuffer content;
+        private final int[] cuts;
+        private final int from;
+        private final int to;
+
+        ParseTask(ByteBuffer content, int[] cuts, int from, int to) {
+            this.content = content;
+            this.cuts = cuts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Lexicon.Builder compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                ParseTask left = new ParseTask(content, cuts, from, middle);
+                ParseTask right = new ParseTask(content, cuts, middle, to);
+                left.fork();
+                Lexicon.Builder builder = right.compute();
+                Lexicon.Builder other = left.join();
+                // Merge the smaller builder into the bigger one
+                if (other.size() > builder.size()) {
+                    other.addAll(builder);
+                    return other;
+                }
+                builder.addAll(other);
+                return builder;
+            }
+            Lexicon.Builder builder = new Lexicon.Builder();
+            parseLines(content, cuts[from], cuts[to], builder);
+            return builder;
+        }
+    }
+
+    /**
+     * Adds the word from every line between start and end that contains ": [".
+     */
+    private static void parseLines(ByteBuffer content, int start, int end, Lexicon.Builder builder) {
+        StringBuilder word = new StringBuilder(); // Reused for every line
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            int firstQuote = -1;
+            int secondQuote = -1;
+            boolean isEntry = false;
+            while (lineEnd < end) {
+                byte b = content.get(lineEnd);
+                if (b == '\n') {
+                    break;
+                }
+                if (b == '"') {
+                    if (firstQuote < 0) {
+                        firstQuote = lineEnd;
+                    } else if (secondQuote < 0) {
+                        secondQuote = lineEnd;
+                    }
+                } else if (b == ':' && lineEnd + 2 < end && content.get(lineEnd + 1) == ' ' && content.get(lineEnd + 2) == '[') {
+                    isEntry = true;
+                }
+                lineEnd++;
+            }
+
+            if (isEntry && secondQuote > firstQuote) {
+                word.setLength(0);
+                for (int i = firstQuote + 1; i < secondQuote; i++) {
+                    word.append((char) (content.get(i) & 0xFF));
+                }
+                builder.add(word); // Lowercased by the builder; anything that isn't a-z is skipped
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private static ByteBuffer readAll(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BYTES);
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                ByteBuffer bigger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                bigger.put(buffer);
+                buffer = bigger;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
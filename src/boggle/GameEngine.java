@@ -0,0 +1,374 @@
+package boggle;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+* The rules and state of a BOGGLE game, with no GUI.
+* It holds the current board, the path the player is building, the words found, the score and the statistics
+* kept across games. MainFrame is a view over one engine; tests, benchmarks and servers can drive an engine directly.
+*
+* Finished games are added to a GameHistoryStore when one is given, so the stats carry over between runs.
+*
+* An engine is not thread-safe. Each game session should have its own engine, but many engines can share one
+* dictionary and one source of boards.
+*/
+public final class GameEngine {
+    /**
+     * What happened when a cell was clicked.
+     */
+    public enum ClickResult {
+        SELECTED,  // the cell was added to the path
+        IGNORED,   // the cell doesn't touch the last cell in the path
+        SUBMITTED  // the cell was already in the path, so the word was submitted (see lastSubmitResult)
+    }
+
+    /**
+     * How far the path being built has got in the dictionary.
+     */
+    public enum PathState {
+        EMPTY,    // nothing is selected
+        PREFIX,   // some word starts with the path, but the path is not a word (or is too short)
+        WORD,     // the path is a word that can be submitted; longer words may also start with it
+        DEAD_END  // no word starts with the path
+    }
+
+    /**
+     * What happened when a word was submitted.
+     */
+    public enum SubmitResult {
+        TOO_SHORT,
+        ALREADY_FOUND,
+        ACCEPTED,
+        NOT_FOUND
+    }
+
+    private Lexicon dictionary;
+    private final IntFunction<BoardSolver.Solution> boards;
+
+    // Current round
+    private BoardGeometry geometry;
+    private String[][] letterGrid;
+    private BoardSolver.Solution boardSolution;
+    private final SelectionPath selection;
+    private final LinkedHashSet<String> wordsFound = new LinkedHashSet<>(); // Hashed for duplicate checks, kept in the order found
+    private int score;
+    private String longestWord = ""; // Longest word found this round, kept up to date as words are accepted
+    private SubmitResult lastSubmitResult;
+    private String lastSubmittedWord = "";
+
+    // Stats across rounds
+    private final GameHistoryStore history; // null if the stats are only kept in memory
+    private final GameStatistics statistics;
+
+    /**
+     * @param dictionary The dictionary used to check words
+     * @param boards Gives a solved board of the requested size for each new round
+     */
+    public GameEngine(Lexicon dictionary, IntFunction<BoardSolver.Solution> boards) {
+        this(dictionary, boards, null);
+    }
+
+    /**
+     * @param dictionary The dictionary used to check words
+     * @param boards Gives a solved board of the requested size for each new round
+     * @param history Where finished games are saved, and the stats are read from; null to keep them in memory only
+     */
+    public GameEngine(Lexicon dictionary, IntFunction<BoardSolver.Solution> boards, GameHistoryStore history) {
+        this.dictionary = dictionary;
+        this.boards = boards;
+        this.history = history;
+        this.statistics = history != null ? history.statistics() : new GameStatistics();
+        this.geometry = BoardGeometry.of(BoardGeometry.MIN_SIZE);
+        this.selection = new SelectionPath(geometry);
+    }
+
+    /**
+     * Switches to another dictionary. Call it between rounds, and make sure the boards now come from the same one.
+     *
+     * @param dictionary The dictionary used to check words from now on
+     */
+    public void setDictionary(Lexicon dictionary) {
+        selection.clear(); // The path's nodes belong to the old dictionary
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * @return The dictionary used to check words
+     */
+    public Lexicon dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Starts a new round on a fresh board of the given size.
+     *
+     * @param boardSize The number of rows and columns
+     */
+    public void newRound(int boardSize) {
+        newRound(boards.apply(boardSize));
+    }
+
+    /**
+     * Starts a new round on the given board. Clears the score, the words found and the current path.
+     *
+     * @param board A solved board
+     */
+    public void newRound(BoardSolver.Solution board) {
+        boardSolution = board;
+        letterGrid = board.grid();
+        geometry = BoardGeometry.of(letterGrid.length);
+        selection.reset(geometry);
+        wordsFound.clear();
+        longestWord = "";
+        score = 0;
+        lastSubmitResult = null;
+        lastSubmittedWord = "";
+    }
+
+    /**
+     * Handles a click on a cell: a new cell next to the last one extends the path, and a cell that is already
+     * in the path submits the word.
+     * CONTRIBUTOR: Drae
+     *
+     * @param cell The cell id (row * board size + column)
+     * @return What the click did
+     */
+    public ClickResult click(int cell) {
+        if (selection.contains(cell)) {
+            submitSelection();
+            return ClickResult.SUBMITTED;
+        }
+        if (!selection.canAdd(cell)) {
+            return ClickResult.IGNORED;
+        }
+        char letter = letterGrid[geometry.row(cell)][geometry.col(cell)].charAt(0);
+        selection.add(cell, letter, dictionary.step(selection.node(), letter)); // One step from the last letter's node
+        return ClickResult.SELECTED;
+    }
+
+    /**
+     * Removes the last cell from the path, going back to the dictionary node of the letter before it.
+     *
+     * @return The cell that was removed, or -1 if nothing was selected
+     */
+    public int undo() {
+        return selection.removeLast();
+    }
+
+    /**
+     * @return Whether the current path is empty, a prefix of some word, a whole word, or a dead end
+     */
+    public PathState pathState() {
+        if (selection.isEmpty()) {
+            return PathState.EMPTY;
+        }
+        int node = selection.node();
+        if (node == Lexicon.NONE) {
+            return PathState.DEAD_END;
+        }
+        if (selection.length() >= BoardSolver.MIN_WORD_LENGTH && dictionary.isWord(node)) {
+            return PathState.WORD;
+        }
+        return PathState.PREFIX;
+    }
+
+    /**
+     * Submits the word spelled by the current path and clears the path.
+     *
+     * @return Whether the word was accepted, and if not, why
+     */
+    public SubmitResult submitSelection() {
+        SubmitResult result = submit(selection.toString(), selection.node()); // The path already knows its node
+        selection.clear();
+        return result;
+    }
+
+    /**
+     * Submits a word that was spelled on the board, given the dictionary node its path ended on. This lets the path be
+     * taken on one thread and the word checked on another (see WordValidator); the path itself is left alone.
+     *
+     * @param word The word, in uppercase
+     * @param node The node from selection().node() when the word was spelled
+     * @return Whether the word was accepted, and if not, why
+     */
+    public SubmitResult submitSpelled(String word, int node) {
+        return submit(word, node);
+    }
+
+    /**
+     * Submits a typed word. It only counts if it can be spelled on the board.
+     *
+     * @param word The word, in any case
+     * @return Whether the word was accepted, and if not, why
+     */
+    public SubmitResult submitWord(String word) {
+        String upperCase = word.toUpperCase();
+        if (upperCase.length() >= BoardSolver.MIN_WORD_LENGTH && !boardSolution.contains(upperCase)) {
+            lastSubmittedWord = upperCase;
+            lastSubmitResult = wordsFound.contains(upperCase) ? SubmitResult.ALREADY_FOUND : SubmitResult.NOT_FOUND;
+            return lastSubmitResult;
+        }
+        return submit(upperCase, dictionary.walk(upperCase));
+    }
+
+    /**
+     * Checks if the word is valid, too short, or already found, and updates the word list and score accordingly.
+     * The node is where the word ends up in the dictionary, so the word is not looked up again here.
+     * CONTRIBUTOR: Drae
+     */
+    private SubmitResult submit(String word, int node) {
+        long start = Metrics.start();
+        lastSubmittedWord = word;
+        if (word.length() < BoardSolver.MIN_WORD_LENGTH) {
+            lastSubmitResult = SubmitResult.TOO_SHORT;
+        } else if (wordsFound.contains(word)) {
+            lastSubmitResult = SubmitResult.ALREADY_FOUND;
+        } else if (dictionary.isWord(node)) {
+            wordsFound.add(word);
+            if (word.length() > longestWord.length()) {
+                longestWord = word;
+            }
+            score += BoardSolver.wordScore(word.length()); // 100 points per letter
+            lastSubmitResult = SubmitResult.ACCEPTED;
+        } else {
+            lastSubmitResult = SubmitResult.NOT_FOUND;
+        }
+        Metrics.WORD_SUBMIT.stop(start);
+        return lastSubmitResult;
+    }
+
+    /**
+     * Checks if a word is valid by looking it up in the dictionary trie.
+     * CONTRIBUTOR: Lara
+     *
+     * @param userGuess The word to check (any case)
+     * @return true if the word is valid, false otherwise
+     */
+    public boolean isValidWord(CharSequence userGuess) {
+        long start = Metrics.start();
+        boolean valid = dictionary.contains(userGuess);
+        Metrics.WORD_LOOKUP.stop(start);
+        return valid;
+    }
+
+    /**
+     * Ends the round and records its stats, including word count, longest word, and final score.
+     * The path being built is left alone, since WordValidator calls this off the thread that owns the path;
+     * clear selection() on that thread if it should go (the next newRound clears it anyway).
+     * CONTRIBUTOR: Lara (Main), Drae (Editor)
+     */
+    public void endRound() {
+        GameHistoryStore.GameRecord game = new GameHistoryStore.GameRecord(System.currentTimeMillis(), geometry.size(),
+                score, boardSolution.maxScore(), wordsFound.size(), longestWord);
+        if (history == null) {
+            statistics.add(game);
+            return;
+        }
+        long saved = history.size();
+        try {
+            history.append(game); // Also adds the game to the statistics
+        } catch (IOException e) {
+            System.err.println("Could not save the game: " + e.getMessage());
+            if (history.size() == saved) {
+                statistics.add(game); // Not written, so not counted yet; if only the sync failed it already was
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics text shown at the end of a game. Every number is kept up to date by GameStatistics,
+     * so this takes the same time however many games have been played.
+     * CONTRIBUTOR: Lara (Main), Elle (Main), Drae (Editor)
+     *
+     * @return A string containing the final stats
+     */
+    public String finalStatsText() {
+        StringBuilder statsText = new StringBuilder();
+
+        // Find max word (LARA)
+        String maxWord = statistics.longestWord();
+
+        if (maxWord.isEmpty()) {
+            statsText.append("The word that earned you the most points was: None")
+                     .append(" earning you 0 points\n");
+        } else {
+            statsText.append("The word that earned you the most points was: ")
+                     .append(maxWord)
+                     .append(" earning you ")
+                     .append(BoardSolver.wordScore(maxWord.length()))
+                     .append(" points\n");
+        }
+
+        // Max total score (ELLE)
+        int maxScore = statistics.highestScore();
+        statsText.append("Your current high score is: ").append(maxScore).append("\n");
+
+        // Max amount of words that they found out of all of their games (ELLE)
+        int maxAmount = statistics.mostWords();
+        statsText.append("Most words found in a single game: ").append(maxAmount).append("\n");
+
+        // Averages and percentiles over all games
+        statsText.append(String.format("Average score: %.0f (median %d, 90th percentile %d, 99th %d)%n", statistics.meanScore(),
+                statistics.scorePercentile(50), statistics.scorePercentile(90), statistics.scorePercentile(99)));
+        statsText.append(String.format("Average words found: %.1f (median %d, 90th percentile %d, 99th %d)", statistics.meanWords(),
+                statistics.wordCountPercentile(50), statistics.wordCountPercentile(90), statistics.wordCountPercentile(99)));
+        return statsText.toString();
+    }
+
+    public BoardGeometry geometry() {
+        return geometry;
+    }
+
+    public String[][] letterGrid() {
+        return letterGrid;
+    }
+
+    public BoardSolver.Solution boardSolution() {
+        return boardSolution;
+    }
+
+    /**
+     * @return The path being built; read-only for callers
+     */
+    public SelectionPath selection() {
+        return selection;
+    }
+
+    /**
+     * @return The words found this round, in the order they were found
+     */
+    public Set<String> wordsFound() {
+        return Collections.unmodifiableSet(wordsFound);
+    }
+
+    public int score() {
+        return score;
+    }
+
+    public int highestScore() {
+        return statistics.highestScore();
+    }
+
+    public long gamesPlayed() {
+        return statistics.games();
+    }
+
+    /**
+     * @return The statistics over all games, including earlier runs if a history store is used
+     */
+    public GameStatistics statistics() {
+        return statistics;
+    }
+
+    public SubmitResult lastSubmitResult() {
+        return lastSubmitResult;
+    }
+
+    public String lastSubmittedWord() {
+        return lastSubmittedWord;
+    }
+}
@@ -0,0 +1,429 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+* Keeps the history of every game played in an append-only log file, so the stats survive restarts.
+* Each game is one fixed-size binary record with its own checksum. Records are only ever added to the end,
+* so a crash can at most leave a half-written last record, which is cut off the next time the log is opened.
+*
+* Writes go straight to the file channel, but the file is only forced to disk every SYNC_EVERY records
+* or SYNC_INTERVAL_NANOS, whichever comes first, and when the store is closed. So that the last game before a quiet
+* spell isn't left unsynced until the next one, a sync is also scheduled on the shared TimingWheel for
+* SYNC_INTERVAL_NANOS after the first unsynced record.
+*
+* Next to the log is a small index file holding the GameStatistics of the first N records. On startup only the
+* records after those N have to be read, so even a history of a million games opens in milliseconds.
+* If the index is missing or damaged, the whole log is read once and the index is written again.
+*
+* Log file layout (big-endian):
+*   header: int magic "BGLH", int version, int record size, int unused
+*   records: long end time (ms), int score, int words found, int max possible score, byte board size,
+*            byte longest word length, 38 bytes longest word (ASCII, zero padded), int CRC32C of the first 60 bytes
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/nio/channels/FileChannel.html
+* - https://docs.oracle.com/javase/9/docs/api/java/util/zip/CRC32C.html
+*/
+public final class GameHistoryStore implements AutoCloseable {
+    public static final String PROPERTY = "boggle.history";
+    public static final int RECORD_BYTES = 64;
+
+    private static final int LOG_MAGIC = 0x42474C48; // "BGLH"
+    private static final int INDEX_MAGIC = 0x42474C49; // "BGLI"
+    private static final int VERSION = 1;
+    private static final int INDEX_VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int WORD_BYTES = 38;
+    private static final int INDEX_BYTES = 4 + 4 + 8 + GameStatistics.BYTES + 4;
+    private static final int SYNC_EVERY = 32;
+    private static final long SYNC_INTERVAL_NANOS = 1_000_000_000L;
+    private static final int READ_RECORDS = 1024; // Records read at a time while catching up
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final FileChannel log;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private final GameStatistics statistics;
+    private long records;
+    private int unsynced;
+    private long lastSync = System.nanoTime();
+    private TimingWheel.Timeout pendingSync; // The sync scheduled for the records written since the last one
+
+    /**
+     * One finished game.
+     */
+    public static final class GameRecord {
+        private final long endTime;
+        private final int boardSize;
+        private final int score;
+        private final int maxScore;
+        private final int wordCount;
+        private final String longestWord;
+
+        /**
+         * @param endTime When the game ended, in milliseconds since 1970
+         * @param boardSize The number of rows and columns
+         * @param score The player's score
+         * @param maxScore The best score possible on the board
+         * @param wordCount The number of words found
+         * @param longestWord The longest word found, or "" if none (only the first 38 letters are stored)
+         */
+        public GameRecord(long endTime, int boardSize, int score, int maxScore, int wordCount, String longestWord) {
+            this.endTime = endTime;
+            this.boardSize = boardSize;
+            this.score = score;
+            this.maxScore = maxScore;
+            this.wordCount = wordCount;
+            this.longestWord = longestWord;
+        }
+
+        public long endTime() {
+            return endTime;
+        }
+
+        public int boardSize() {
+            return boardSize;
+        }
+
+        public int score() {
+            return score;
+        }
+
+        public int maxScore() {
+            return maxScore;
+        }
+
+        public int wordCount() {
+            return wordCount;
+        }
+
+        public String longestWord() {
+            return longestWord;
+        }
+    }
+
+    private GameHistoryStore(Path logFile) throws IOException {
+        this.logFile = logFile;
+        this.indexFile = logFile.resolveSibling(logFile.getFileName() + ".idx");
+        Path parent = logFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.statistics = recover();
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a history log, creating it if it doesn't exist, and reads its statistics.
+     *
+     * @param logFile The log file; the index is kept next to it with ".idx" added to the name
+     * @return The open store
+     * @throws IOException If the file can't be opened or isn't a history log
+     */
+    public static GameHistoryStore open(Path logFile) throws IOException {
+        return new GameHistoryStore(logFile);
+    }
+
+    /**
+     * Opens the history log named by the boggle.history property, or ~/.boggle/history.log.
+     *
+     * @return The open store, or null if it could not be opened (the game then keeps its stats in memory only)
+     */
+    public static GameHistoryStore openConfigured() {
+        String location = System.getProperty(PROPERTY);
+        Path file = location != null ? Path.of(location) : Path.of(System.getProperty("user.home"), ".boggle", "history.log");
+        try {
+            return open(file);
+        } catch (IOException e) {
+            System.err.println("Could not open the game history " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the header of a new log, or checks the header of an existing one, then catches the statistics up
+     * from the index to the end of the log.
+     */
+    private GameStatistics recover() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (log.size() < HEADER_BYTES) {
+            header.putInt(LOG_MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putInt(0).flip();
+            log.truncate(0);
+            writeFully(header, 0);
+            log.force(true);
+        } else {
+            readFully(header, 0);
+            header.flip();
+            if (header.getInt() != LOG_MAGIC || header.getInt() != VERSION || header.getInt() != RECORD_BYTES) {
+                throw new IOException(logFile + " is not a game history log");
+            }
+        }
+
+        long complete = (log.size() - HEADER_BYTES) / RECORD_BYTES;
+        GameStatistics statistics = readIndex(complete);
+        long indexed = statistics != null ? statistics.games() : 0;
+        if (statistics == null) {
+            statistics = new GameStatistics(); // No usable index, so read the whole log
+        }
+
+        // Read the records the index doesn't cover, stopping at the first one that was only partly written
+        ByteBuffer buffer = ByteBuffer.allocate(READ_RECORDS * RECORD_BYTES);
+        long next = indexed;
+        while (next < complete) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (complete - next) * RECORD_BYTES));
+            readFully(buffer, offset(next));
+            buffer.flip();
+            boolean damaged = false;
+            while (buffer.remaining() >= RECORD_BYTES) {
+                GameRecord game = decode(buffer);
+                if (game == null) {
+                    damaged = true;
+                    break;
+                }
+                statistics.add(game);
+                next++;
+            }
+            if (damaged) {
+                break;
+            }
+        }
+        records = next;
+
+        if (log.size() != offset(records)) {
+            log.truncate(offset(records)); // Drop the torn or damaged tail
+            log.force(true);
+        }
+        if (records != indexed) {
+            writeIndex(statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Adds a game to the end of the log and to the statistics. The game is counted (and size() goes up) as soon as
+     * its record is written, so if this throws, size() tells whether the write failed or only the sync after it.
+     *
+     * @param game The finished game
+     * @throws IOException If the record could not be written, or written but not synced
+     */
+    public synchronized void append(GameRecord game) throws IOException {
+        byte[] word = game.longestWord().getBytes(StandardCharsets.US_ASCII);
+        int wordLength = Math.min(word.length, WORD_BYTES);
+        record.clear();
+        record.putLong(game.endTime())
+              .putInt(game.score())
+              .putInt(game.wordCount())
+              .putInt(game.maxScore())
+              .put((byte) game.boardSize())
+              .put((byte) wordLength)
+              .put(word, 0, wordLength);
+        while (record.position() < RECORD_BYTES - 4) {
+            record.put((byte) 0);
+        }
+        record.putInt(crc(record.array()));
+        record.flip();
+        writeFully(record, offset(records));
+        records++;
+        statistics.add(game);
+
+        // Batch the fsyncs: a crash can lose at most the last few games, never damage older ones
+        unsynced++;
+        if (unsynced >= SYNC_EVERY || System.nanoTime() - lastSync >= SYNC_INTERVAL_NANOS) {
+            sync();
+        } else if (pendingSync == null) {
+            // The wheel thread only hands the sync off, since it writes to disk
+            pendingSync = TimingWheel.shared().schedule(() -> CompletableFuture.runAsync(this::scheduledSync),
+                    SYNC_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Syncs the records written since the last sync, a second after the first of them, if nothing has synced them
+     * yet.
+     */
+    private synchronized void scheduledSync() {
+        pendingSync = null;
+        if (!log.isOpen()) {
+            return;
+        }
+        try {
+            sync();
+        } catch (IOException e) {
+            System.err.println("Could not sync the game history " + logFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one game from the log. Records are all the same size, so any game can be read directly.
+     *
+     * @param index The game number, from 0 (oldest) to size() - 1
+     * @return The game
+     * @throws IOException If the record can't be read or is damaged
+     */
+    public synchronized GameRecord read(long index) throws IOException {
+        if (index < 0 || index >= records) {
+            throw new IndexOutOfBoundsException("game " + index + ", size " + records);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        readFully(buffer, offset(index));
+        buffer.flip();
+        GameRecord game = decode(buffer);
+        if (game == null) {
+            throw new IOException("Game " + index + " in " + logFile + " is damaged");
+        }
+        return game;
+    }
+
+    /**
+     * @return The number of games in the log
+     */
+    public synchronized long size() {
+        return records;
+    }
+
+    /**
+     * @return The statistics over every game in the log; only changed by append
+     */
+    public GameStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Forces the new records to disk and updates the index to cover them.
+     *
+     * @throws IOException If the file could not be synced
+     */
+    public synchronized void sync() throws IOException {
+        if (unsynced == 0) {
+            return;
+        }
+        log.force(false);
+        writeIndex(statistics);
+        unsynced = 0;
+        lastSync = System.nanoTime();
+        if (pendingSync != null) {
+            pendingSync.cancel();
+            pendingSync = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (log.isOpen()) {
+                sync();
+                log.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not close the game history " + logFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the statistics saved in the index. Every game in the history is one record, so the number of
+     * games in the statistics is also the number of records they cover.
+     *
+     * @param complete The number of whole records in the log
+     * @return The statistics, or null if the index is missing, damaged or ahead of the log
+     */
+    private GameStatistics readIndex(long complete) {
+        try {
+            if (!Files.isRegularFile(indexFile) || Files.size(indexFile) != INDEX_BYTES) {
+                return null;
+            }
+            ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+            if (index.getInt(INDEX_BYTES - 4) != crc(index.array())) {
+                return null;
+            }
+            if (index.getInt() != INDEX_MAGIC || index.getInt() != INDEX_VERSION) {
+                return null;
+            }
+            long indexed = index.getLong();
+            GameStatistics statistics = GameStatistics.read(index);
+            if (indexed < 0 || indexed > complete || indexed != statistics.games()) {
+                return null;
+            }
+            return statistics;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the index for the records written so far. It is small enough to rewrite in place; if a crash
+     * damages it, its checksum fails and the log is read from the start instead.
+     */
+    private void writeIndex(GameStatistics statistics) throws IOException {
+        ByteBuffer index = ByteBuffer.allocate(INDEX_BYTES);
+        index.putInt(INDEX_MAGIC).putInt(INDEX_VERSION).putLong(records);
+        statistics.write(index);
+        index.putInt(INDEX_BYTES - 4, crc(index.array()));
+        Files.write(indexFile, index.array());
+    }
+
+    /**
+     * Reads one record from the buffer.
+     *
+     * @return The game, or null if the record's checksum doesn't match
+     */
+    private static GameRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), buffer.arrayOffset() + start, RECORD_BYTES - 4);
+        if ((int) crc.getValue() != buffer.getInt(start + RECORD_BYTES - 4)) {
+            return null;
+        }
+        long endTime = buffer.getLong();
+        int score = buffer.getInt();
+        int wordCount = buffer.getInt();
+        int maxScore = buffer.getInt();
+        int boardSize = buffer.get();
+        int wordLength = buffer.get();
+        String longestWord = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), wordLength, StandardCharsets.US_ASCII);
+        buffer.position(start + RECORD_BYTES);
+        return new GameRecord(endTime, boardSize, score, maxScore, wordCount, longestWord);
+    }
+
+    /**
+     * @return The CRC32C of everything but the last 4 bytes, where the checksum itself goes
+     */
+    private static int crc(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - 4);
+        return (int) crc.getValue();
+    }
+
+    private static long offset(long index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (log.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + logFile);
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            log.write(buffer, position + buffer.position());
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package boggle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+* Hosts BOGGLE games over a simple line-based TCP protocol, one game session per connection.
+*
+* Every session runs on its own virtual thread (on Java 21 and later; older runtimes fall back to a cached pool of
+* normal threads). All sessions share the word lists in a LexiconRegistry (each one loaded the first time any session
+* picks it, with its own letter-frequency model) and one board pool per word list and board size, so each session
+* only holds its own GameEngine: its round state and the words it has found, plus the statistics behind STATS,
+* whose histograms grow with the scores actually played (a few hundred bytes for ordinary games, never over 12 KB).
+* Finished rounds of 30, 60, 90 or 120 seconds go on a Leaderboard shared by every session, ranked against rounds of
+* the same length on the same board size.
+*
+* Protocol (one command per line, answers are one or more lines):
+*   NAME name             set the name shown on the leaderboard -> NAME name
+*   LEXICON [name]        pick the word list from the next round -> LEXICON name; with no name, the current one
+*                                                                 and then LEXICONS with every name
+*   NEW [size] [seconds]  start a round, default 3x3 and 90 s   -> BOARD size LETTERS, then TIME seconds
+*   DAILY [size] [seconds] like NEW, on today's board; every player gets the same one for each size
+*   WORD word             submit a word                        -> ACCEPTED word points total | ALREADY_FOUND | NOT_FOUND | TOO_SHORT
+*   SCORE                 current score                        -> SCORE score max-possible
+*   END                   end the round now                    -> END score max-possible words-found words-on-board,
+*                                                                 then RANK rank of-total (among rounds of that length and size)
+*                                                                 if the round length is a leaderboard mode
+*   TOP [seconds] [size]  best scores, default 90 s on 3x3      -> TOP seconds size, then "rank name score size" lines, then .
+*   STATS                 stats across this session's rounds   -> STATS lines, then .
+*   QUIT                  close the connection                 -> BYE
+* When the round's time runs out the server ends it on its own and sends TIME_UP followed by the END line.
+* Every round's deadline is a timeout on the shared TimingWheel, so thousands of rounds need no thread of their own.
+*
+* Usage: java boggle.App server [port]   (listens on localhost, default port 4848)
+*
+* SOURCES:
+* - https://openjdk.org/jeps/444
+* - https://docs.oracle.com/javase/8/docs/api/java/net/ServerSocket.html
+*/
+public final class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 4848;
+    private static final int DEFAULT_SECONDS = 90;
+    private static final int POOL_CAPACITY = 256;
+
+    private final LexiconRegistry lexicons;
+    private final ConcurrentHashMap<String, BoardPool> pools = new ConcurrentHashMap<>(); // Keyed by "lexicon/size"
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = newSessionExecutor();
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger sessionIds = new AtomicInteger();
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    /**
+     * @param lexicons The word lists shared by every session; new sessions play the default one
+     * @param port The port to listen on (0 picks a free port)
+     * @throws IOException if the port can't be opened
+     */
+    public GameServer(LexiconRegistry lexicons, int port) throws IOException {
+        this.lexicons = lexicons;
+        this.serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * @return The port the server is listening on
+     */
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return The number of connected sessions
+     */
+    public int openSessions() {
+        return openSessions.get();
+    }
+
+    /**
+     * @return The leaderboard shared by every session
+     */
+    public Leaderboard leaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for each one.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> runSession(socket));
+            } catch (IOException ex) {
+                if (!serverSocket.isClosed()) {
+                    ex.printStackTrace();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+        pools.values().forEach(BoardPool::close);
+    }
+
+    private BoardSolver.Solution nextBoard(LexiconRegistry.Entry lexicon, int size) {
+        // Loaded first, since computeIfAbsent locks the map bin and would hold up every session whose key shares it
+        BoardGenerator generator = lexicon.generator();
+        Lexicon words = lexicon.lexicon();
+        return pools.computeIfAbsent(lexicon.name() + "/" + size, key -> new BoardPool(generator, words, size,
+                Integer.getInteger("boggle.minWords", 5), Integer.getInteger("boggle.minScore", 0), POOL_CAPACITY)).next();
+    }
+
+    /**
+     * @return The word lists shared by every session
+     */
+    public LexiconRegistry lexicons() {
+        return lexicons;
+    }
+
+    /**
+     * @return Today's board of the given size for a word list; it is solved once and then comes from the word list's cache
+     */
+    private BoardSolver.Solution dailyBoard(LexiconRegistry.Entry lexicon, int size) {
+        return lexicon.solutions().solve(lexicon.generator().generateDaily(size, LocalDate.now()));
+    }
+
+    private void runSession(Socket socket) {
+        openSessions.incrementAndGet();
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            Session session = new Session(this, "player" + sessionIds.incrementAndGet(), out);
+            try {
+                out.println("BOGGLE READY");
+                String line;
+                while ((line = in.readLine()) != null && session.handle(line.trim())) {
+                    // keep reading commands
+                }
+            } finally {
+                session.close();
+            }
+        } catch (IOException ex) {
+            // Client went away
+        } finally {
+            openSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * One connected player: an engine plus the length and deadline of the current round.
+     * Commands come from the connection's thread and the time-up from the timing wheel, so both take the session's lock.
+     * It is a ReentrantLock rather than synchronized, because the lock is held while answering: a virtual thread
+     * (Java 21+) blocked on a socket write inside a synchronized method stays pinned to its carrier thread, while one
+     * waiting with a ReentrantLock held lets the carrier run other sessions. A client that reads slowly still delays
+     * its own time-up message. That is accepted: the answers to one client have to go out in order anyway, and the
+     * time-up waits on a session thread, never on the timing wheel's thread, so no other session is held up.
+     */
+    private static final class Session {
+        private final GameServer server;
+        private final GameEngine engine;
+        private final Leaderboard leaderboard;
+        private final PrintWriter out;
+        private final Executor executor;
+        private final ReentrantLock lock = new ReentrantLock();
+        private LexiconRegistry.Entry lexicon; // Picked for the next round; the engine switches when it starts
+        private String player;
+        private boolean inRound;
+        private int round; // Counts rounds, so a time-up for an earlier round is ignored
+        private int seconds;
+        private long deadline; // System.nanoTime() when the round ends
+        private TimingWheel.Timeout timeUp;
+
+        Session(GameServer server, String player, PrintWriter out) {
+            this.server = server;
+            this.lexicon = server.lexicons.defaultEntry();
+            this.engine = new GameEngine(lexicon.lexicon(), size -> server.nextBoard(lexicon, size));
+            this.leaderboard = server.leaderboard;
+            this.player = player;
+            this.out = out;
+            this.executor = server.sessions;
+        }
+
+        /**
+         * @return false when the connection should close
+         */
+        boolean handle(String line) {
+            lock.lock();
+            try {
+                return handleLocked(line);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean handleLocked(String line) {
+            String[] parts = line.split("\\s+");
+            String command = parts[0].toUpperCase();
+            switch (command) {
+                case "NAME":
+                    if (parts.length < 2) {
+                        out.println("ERROR usage: NAME name");
+                    } else {
+                        player = parts[1];
+                        out.println("NAME " + player);
+                    }
+                    break;
+                case "LEXICON":
+                    pickLexicon(parts);
+                    break;
+                case "NEW":
+                case "DAILY":
+                    startRound(parts, command.equals("DAILY"));
+                    break;
+                case "WORD":
+                    if (!checkInRound()) {
+                        break;
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        out.println("TIME_UP");
+                        endRound();
+                    } else if (parts.length < 2) {
+                        out.println("ERROR usage: WORD word");
+                    } else {
+                        GameEngine.SubmitResult result = engine.submitWord(parts[1]);
+                        if (result == GameEngine.SubmitResult.ACCEPTED) {
+                            out.println("ACCEPTED " + engine.lastSubmittedWord() + " "
+                                    + BoardSolver.wordScore(engine.lastSubmittedWord().length()) + " " + engine.score());
+                        } else {
+                            out.println(result);
+                        }
+                    }
+                    break;
+                case "SCORE":
+                    if (checkInRound()) {
+                        out.println("SCORE " + engine.score() + " " + engine.boardSolution().maxScore());
+                    }
+                    break;
+                case "END":
+                    if (checkInRound()) {
+                        endRound();
+                    }
+                    break;
+                case "TOP":
+                    showTop(parts);
+                    break;
+                case "STATS":
+                    out.println(engine.finalStatsText());
+                    out.println(".");
+                    break;
+                case "QUIT":
+                    out.println("BYE");
+                    return false;
+                default:
+                    out.println("ERROR unknown command " + parts[0]);
+            }
+            return true;
+        }
+
+        private void startRound(String[] parts, boolean daily) {
+            int size;
+            int seconds;
+            try {
+                size = parts.length > 1 ? Integer.parseInt(parts[1]) : BoardGeometry.MIN_SIZE;
+                seconds = parts.length > 2 ? Integer.parseInt(parts[2]) : DEFAULT_SECONDS;
+                BoardGeometry.of(size); // Checks the size
+                if (seconds <= 0) {
+                    throw new IllegalArgumentException("round length " + seconds);
+                }
+            } catch (IllegalArgumentException ex) {
+                out.println("ERROR usage: " + parts[0].toUpperCase() + " [size " + BoardGeometry.MIN_SIZE + "-" + BoardGeometry.MAX_SIZE + "] [seconds > 0]");
+                return;
+            }
+            if (inRound) {
+                endRound();
+            }
+            if (engine.dictionary() != lexicon.lexicon()) {
+                engine.setDictionary(lexicon.lexicon());
+            }
+            if (daily) {
+                engine.newRound(server.dailyBoard(lexicon, size));
+            } else {
+                engine.newRound(size);
+            }
+            inRound = true;
+            this.seconds = seconds;
+            deadline = System.nanoTime() + seconds * 1_000_000_000L;
+            // The wheel thread must not block on a slow client, so the time-up is written from the session executor
+            int thisRound = ++round;
+            timeUp = TimingWheel.shared().schedule(() -> {
+                try {
+                    executor.execute(() -> timeUp(thisRound));
+                } catch (RejectedExecutionException ex) {
+                    // Server closed
+                }
+            }, seconds, TimeUnit.SECONDS);
+
+            StringBuilder letters = new StringBuilder(size * size);
+            for (String[] row : engine.letterGrid()) {
+                for (String letter : row) {
+                    letters.append(letter);
+                }
+            }
+            out.println("BOARD " + size + " " + letters);
+            out.println("TIME " + seconds);
+        }
+
+        /**
+         * Ends the round when its time runs out, unless it already ended some other way.
+         */
+        private void timeUp(int expiredRound) {
+            lock.lock();
+            try {
+                if (inRound && expiredRound == round) {
+                    out.println("TIME_UP");
+                    endRound();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stops the round's timer when the connection closes.
+         */
+        void close() {
+            lock.lock();
+            try {
+                if (timeUp != null) {
+                    timeUp.cancel();
+                }
+                inRound = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void endRound() {
+            timeUp.cancel();
+            engine.endRound();
+            inRound = false;
+            out.println("END " + engine.score() + " " + engine.boardSolution().maxScore() + " "
+                    + engine.wordsFound().size() + " " + engine.boardSolution().wordCount());
+            if (Leaderboard.isMode(seconds)) {
+                int rank = leaderboard.submit(seconds, player, engine.score(), engine.geometry().size());
+                out.println("RANK " + rank + " " + leaderboard.size(seconds, engine.geometry().size()));
+            }
+        }
+
+        private void pickLexicon(String[] parts) {
+            if (parts.length > 1) {
+                LexiconRegistry.Entry picked = server.lexicons.get(parts[1]);
+                if (picked == null) {
+                    out.println("ERROR unknown lexicon " + parts[1]);
+                    return;
+                }
+                lexicon = picked;
+                out.println("LEXICON " + lexicon.name());
+            } else {
+                out.println("LEXICON " + lexicon.name());
+                out.println("LEXICONS " + String.join(" ", server.lexicons.names()));
+            }
+        }
+
+        private void showTop(String[] parts) {
+            int mode;
+            int size;
+            try {
+                mode = parts.length > 1 ? Integer.parseInt(parts[1]) : DEFAULT_SECONDS;
+                size = parts.length > 2 ? Integer.parseInt(parts[2]) : BoardGeometry.MIN_SIZE;
+            } catch (NumberFormatException ex) {
+                mode = -1;
+                size = -1;
+            }
+            if (!Leaderboard.isMode(mode) || size < BoardGeometry.MIN_SIZE || size > BoardGeometry.MAX_SIZE) {
+                out.println("ERROR usage: TOP [30|60|90|120] [size " + BoardGeometry.MIN_SIZE + "-" + BoardGeometry.MAX_SIZE + "]");
+                return;
+            }
+            out.println("TOP " + mode + " " + size);
+            int rank = 1;
+            for (Leaderboard.Entry entry : leaderboard.top(mode, size)) {
+                out.println(rank++ + " " + entry.player() + " " + entry.score() + " " + entry.boardSize());
+            }
+            out.println(".");
+        }
+
+        private boolean checkInRound() {
+            if (!inRound) {
+                out.println("ERROR no round, send NEW first");
+            }
+            return inRound;
+        }
+    }
+
+    /**
+     * Uses one virtual thread per task when the runtime has them (Java 21+), otherwise a cached thread pool.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "boggle-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(LexiconRegistry.shared(), port);
+        System.out.println("BOGGLE server listening on localhost:" + server.port());
+        server.serve();
+    }
+}
@@ -0,0 +1,204 @@
+package boggle;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+* Running statistics over every game played: highest score, most words, longest word, means, and histograms of
+* the scores and word counts for percentiles. Adding a game is O(1), and reading any statistic takes the same
+* time no matter how many games have been played, since the histograms have a fixed number of buckets.
+*
+* Scores are multiples of 100, so the score histogram has one bucket per 100 points. Word counts have one bucket
+* per count. Anything past the last bucket is counted in the last bucket, and percentiles that land there are
+* reported as the highest value seen.
+*
+* The histograms start empty and grow (doubling, up to their full number of buckets) to fit the highest score and word
+* count seen, so statistics over a few ordinary games take a few hundred bytes rather than the 12 KB of the full tables.
+* That matters on the game server, which keeps one per session.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Percentile#The_nearest-rank_method
+*/
+public final class GameStatistics {
+    public static final int SCORE_BUCKET_WIDTH = 100;
+    public static final int SCORE_BUCKETS = 1024;
+    public static final int WORD_BUCKETS = 512;
+    private static final int MAX_WORD_LENGTH = BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE;
+
+    /** The number of bytes written by write. */
+    static final int BYTES = 8 + 8 + 8 + 4 + 4 + 1 + MAX_WORD_LENGTH + 8 * (SCORE_BUCKETS + WORD_BUCKETS);
+
+    private long games;
+    private long scoreSum;
+    private long wordSum;
+    private int highestScore;
+    private int mostWords;
+    private String longestWord = "";
+    private static final int MIN_BUCKETS = 16;
+    private long[] scoreHistogram = new long[0]; // Only as long as needed so far; see grow
+    private long[] wordHistogram = new long[0];
+
+    /**
+     * Adds one finished game.
+     *
+     * @param game The game
+     */
+    public void add(GameHistoryStore.GameRecord game) {
+        games++;
+        scoreSum += game.score();
+        wordSum += game.wordCount();
+        highestScore = Math.max(highestScore, game.score());
+        mostWords = Math.max(mostWords, game.wordCount());
+        if (game.longestWord().length() > longestWord.length()) {
+            longestWord = game.longestWord();
+        }
+        int scoreBucket = Math.min(SCORE_BUCKETS - 1, game.score() / SCORE_BUCKET_WIDTH);
+        int wordBucket = Math.min(WORD_BUCKETS - 1, game.wordCount());
+        if (scoreBucket >= scoreHistogram.length) {
+            scoreHistogram = grow(scoreHistogram, scoreBucket, SCORE_BUCKETS);
+        }
+        if (wordBucket >= wordHistogram.length) {
+            wordHistogram = grow(wordHistogram, wordBucket, WORD_BUCKETS);
+        }
+        scoreHistogram[scoreBucket]++;
+        wordHistogram[wordBucket]++;
+    }
+
+    /**
+     * @return A copy of the histogram long enough for the bucket, at least doubled, but never over the full size
+     */
+    private static long[] grow(long[] histogram, int bucket, int fullSize) {
+        int length = Math.max(MIN_BUCKETS, histogram.length * 2);
+        while (length <= bucket) {
+            length *= 2;
+        }
+        return Arrays.copyOf(histogram, Math.min(fullSize, length));
+    }
+
+    public long games() {
+        return games;
+    }
+
+    public int highestScore() {
+        return highestScore;
+    }
+
+    public int mostWords() {
+        return mostWords;
+    }
+
+    public String longestWord() {
+        return longestWord;
+    }
+
+    /**
+     * @return The average score per game, or 0 if no games have been played
+     */
+    public double meanScore() {
+        return games == 0 ? 0 : (double) scoreSum / games;
+    }
+
+    /**
+     * @return The average number of words found per game, or 0 if no games have been played
+     */
+    public double meanWords() {
+        return games == 0 ? 0 : (double) wordSum / games;
+    }
+
+    /**
+     * @param percentile Between 0 and 100, e.g. 50 for the median
+     * @return The score that many percent of games scored at most, or 0 if no games have been played
+     */
+    public int scorePercentile(double percentile) {
+        return percentile(scoreHistogram, SCORE_BUCKETS, percentile) * SCORE_BUCKET_WIDTH;
+    }
+
+    /**
+     * @param percentile Between 0 and 100, e.g. 50 for the median
+     * @return The word count that many percent of games reached at most, or 0 if no games have been played
+     */
+    public int wordCountPercentile(double percentile) {
+        return percentile(wordHistogram, WORD_BUCKETS, percentile);
+    }
+
+    /**
+     * Finds the bucket holding the game at the given rank (nearest-rank method).
+     */
+    private int percentile(long[] histogram, int fullSize, double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * games));
+        long seen = 0;
+        for (int bucket = 0; bucket < Math.min(histogram.length, fullSize - 1); bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return bucket;
+            }
+        }
+        // In the overflow bucket; the best answer is the highest value seen
+        return histogram == scoreHistogram ? highestScore / SCORE_BUCKET_WIDTH : mostWords;
+    }
+
+    /**
+     * Writes the statistics in a fixed-size binary form (BYTES long), for the history index.
+     */
+    void write(ByteBuffer buffer) {
+        byte[] word = longestWord.getBytes(StandardCharsets.US_ASCII);
+        int wordLength = Math.min(word.length, MAX_WORD_LENGTH);
+        buffer.putLong(games).putLong(scoreSum).putLong(wordSum).putInt(highestScore).putInt(mostWords);
+        buffer.put((byte) wordLength).put(word, 0, wordLength);
+        for (int i = wordLength; i < MAX_WORD_LENGTH; i++) {
+            buffer.put((byte) 0);
+        }
+        putHistogram(buffer, scoreHistogram, SCORE_BUCKETS);
+        putHistogram(buffer, wordHistogram, WORD_BUCKETS);
+    }
+
+    /**
+     * Reads statistics written by write.
+     *
+     * @throws BufferUnderflowException If the buffer is too short
+     */
+    static GameStatistics read(ByteBuffer buffer) {
+        GameStatistics statistics = new GameStatistics();
+        statistics.games = buffer.getLong();
+        statistics.scoreSum = buffer.getLong();
+        statistics.wordSum = buffer.getLong();
+        statistics.highestScore = buffer.getInt();
+        statistics.mostWords = buffer.getInt();
+        byte[] word = new byte[MAX_WORD_LENGTH];
+        int wordLength = Math.min(buffer.get() & 0xFF, MAX_WORD_LENGTH);
+        buffer.get(word);
+        statistics.longestWord = new String(word, 0, wordLength, StandardCharsets.US_ASCII);
+        statistics.scoreHistogram = getHistogram(buffer, SCORE_BUCKETS);
+        statistics.wordHistogram = getHistogram(buffer, WORD_BUCKETS);
+        return statistics;
+    }
+
+    /**
+     * Writes all fullSize buckets, the ones past the end of the histogram as 0, so the form stays the same size.
+     */
+    private static void putHistogram(ByteBuffer buffer, long[] histogram, int fullSize) {
+        for (int i = 0; i < fullSize; i++) {
+            buffer.putLong(i < histogram.length ? histogram[i] : 0);
+        }
+    }
+
+    /**
+     * Reads fullSize buckets and keeps them up to the last one that isn't 0.
+     */
+    private static long[] getHistogram(ByteBuffer buffer, int fullSize) {
+        long[] histogram = new long[fullSize];
+        int used = 0;
+        for (int i = 0; i < fullSize; i++) {
+            histogram[i] = buffer.getLong();
+            if (histogram[i] != 0) {
+                used = i + 1;
+            }
+        }
+        return Arrays.copyOf(histogram, used);
+    }
+}
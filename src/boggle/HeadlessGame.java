@@ -0,0 +1,63 @@
+package boggle;
+
+import java.util.List;
+
+/**
+* Plays many BOGGLE games through GameEngine without a window, to check the engine and measure how fast it runs.
+* Each simulated player clicks out the path of every other word on the board, clicks a cell that was already used
+* to submit it, submits one word twice and one word that is too short, and then ends the round.
+*
+* Usage: java boggle.App headless [games] [board size]
+*/
+public final class HeadlessGame {
+    private HeadlessGame() {
+    }
+
+    /**
+     * Plays one simulated game on the engine.
+     *
+     * @param engine The engine to play on
+     * @param boardSize The number of rows and columns
+     * @return The number of clicks made
+     */
+    public static int play(GameEngine engine, int boardSize) {
+        engine.newRound(boardSize);
+        int clicks = 0;
+        List<BoardSolver.FoundWord> words = engine.boardSolution().words();
+        for (int i = 0; i < words.size(); i += 2) {
+            int[] path = words.get(i).path();
+            for (int cell : path) {
+                engine.click(cell);
+            }
+            engine.click(path[path.length - 1]); // Clicking a selected cell submits the word
+            clicks += path.length + 1;
+        }
+        if (!words.isEmpty()) {
+            engine.submitWord(words.get(0).word()); // Already found
+        }
+        engine.click(0);
+        engine.click(0); // One letter, too short
+        clicks += 2;
+        engine.endRound();
+        return clicks;
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int boardSize = args.length > 1 ? Integer.parseInt(args[1]) : BoardGeometry.MIN_SIZE;
+
+        Lexicon dictionary = DictionaryLoader.loadConfigured();
+        BoardGenerator generator = new BoardGenerator(dictionary);
+        BoardSolver solver = new BoardSolver(dictionary);
+        GameEngine engine = new GameEngine(dictionary, size -> solver.solve(generator.generate(size)));
+
+        long clicks = 0;
+        long start = System.nanoTime();
+        for (int game = 0; game < games; game++) {
+            clicks += play(engine, boardSize);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games (%d clicks) in %.2f s: %.0f games/s%n", games, clicks, seconds, games / seconds);
+        System.out.println(engine.finalStatsText());
+    }
+}
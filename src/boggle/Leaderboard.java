@@ -0,0 +1,227 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+* Ranks scores from many sessions at once, separately for each board size and timer mode (30, 60, 90 and 120
+* seconds), since a 10x10 board scores far more than a 3x3 one in the same time.
+*
+* Each ranking keeps:
+* - the best TOP_K scores in a ConcurrentSkipListSet, best first, so submitting and reading the top list never
+*   takes a lock;
+* - a count of every score ever submitted in a Fenwick tree (binary indexed tree) over score buckets, held in an
+*   AtomicLongArray. Adding a score and counting the scores above it both touch O(log buckets) slots, so a rank
+*   query is logarithmic however many scores have been submitted.
+*
+* Like GameStatistics, scores are counted in buckets of 100 points (every score is a multiple of 100), and
+* anything past the last bucket is counted in it. A ranking is made the first time a score is submitted for its size
+* and mode, so sizes nobody plays cost nothing.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Fenwick_tree
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentSkipListSet.html
+*/
+public final class Leaderboard {
+    public static final int[] TIMER_MODES = {30, 60, 90, 120};
+    public static final int TOP_K = 10;
+    private static final int SCORE_BUCKETS = 4096;
+
+    private static final int SIZES = BoardGeometry.MAX_SIZE - BoardGeometry.MIN_SIZE + 1;
+
+    private final AtomicReferenceArray<Ranking> rankings = new AtomicReferenceArray<>(SIZES * TIMER_MODES.length);
+
+    /**
+     * A score on the leaderboard.
+     */
+    public static final class Entry {
+        private final String player;
+        private final int score;
+        private final int boardSize;
+        private final long sequence; // Order of submission; earlier scores win ties
+
+        Entry(String player, int score, int boardSize, long sequence) {
+            this.player = player;
+            this.score = score;
+            this.boardSize = boardSize;
+            this.sequence = sequence;
+        }
+
+        public String player() {
+            return player;
+        }
+
+        public int score() {
+            return score;
+        }
+
+        public int boardSize() {
+            return boardSize;
+        }
+
+        @Override
+        public String toString() {
+            return player + " " + score + " " + boardSize + "x" + boardSize;
+        }
+    }
+
+    private static final Comparator<Entry> BEST_FIRST =
+        Comparator.comparingInt((Entry e) -> -e.score).thenComparingLong(e -> e.sequence);
+
+    /**
+     * The rankings for one board size and timer mode.
+     */
+    private static final class Ranking {
+        private final ConcurrentSkipListSet<Entry> top = new ConcurrentSkipListSet<>(BEST_FIRST);
+        private final AtomicInteger topSize = new AtomicInteger();
+        private final AtomicLongArray tree = new AtomicLongArray(SCORE_BUCKETS + 1); // 1-based Fenwick tree
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sequence = new AtomicLong();
+
+        void add(String player, int score, int boardSize) {
+            for (int i = bucket(score) + 1; i <= SCORE_BUCKETS; i += i & -i) {
+                tree.getAndIncrement(i);
+            }
+            count.incrementAndGet();
+
+            Entry entry = new Entry(player, score, boardSize, sequence.getAndIncrement());
+            if (topSize.get() >= TOP_K && BEST_FIRST.compare(entry, top.last()) > 0) {
+                return; // Not good enough for the top list
+            }
+            top.add(entry);
+            // Trim back down to TOP_K; whichever thread pushed the list over removes the worst entry
+            if (topSize.incrementAndGet() > TOP_K && top.pollLast() != null) {
+                topSize.decrementAndGet();
+            }
+        }
+
+        /**
+         * @return The number of scores in buckets 0 to bucket, inclusive
+         */
+        long countUpTo(int bucket) {
+            long sum = 0;
+            for (int i = bucket + 1; i > 0; i -= i & -i) {
+                sum += tree.get(i);
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Records a finished game. Can be called from any number of threads at once.
+     *
+     * @param seconds The round length
+     * @param player The player's name
+     * @param score The final score
+     * @param boardSize The number of rows and columns
+     * @return The score's rank for its board size and mode (1 is best), or 0 if the round length is not a leaderboard
+     *         mode or the size is not a board size
+     */
+    public int submit(int seconds, String player, int score, int boardSize) {
+        int index = index(seconds, boardSize);
+        if (index < 0) {
+            return 0;
+        }
+        Ranking ranking = rankings.get(index);
+        if (ranking == null) {
+            rankings.compareAndSet(index, null, new Ranking()); // If another thread made it first, theirs is used
+            ranking = rankings.get(index);
+        }
+        ranking.add(player, score, boardSize);
+        return rank(seconds, boardSize, score);
+    }
+
+    /**
+     * Finds where a score would rank, in O(log buckets) time.
+     *
+     * @param seconds The round length
+     * @param boardSize The number of rows and columns
+     * @param score The score
+     * @return 1 plus the number of scores above it (ties share a rank), or 0 if the round length is not a mode or
+     *         the size is not a board size
+     */
+    public int rank(int seconds, int boardSize, int score) {
+        if (index(seconds, boardSize) < 0) {
+            return 0;
+        }
+        Ranking ranking = ranking(seconds, boardSize);
+        if (ranking == null) {
+            return 1; // Nothing submitted yet
+        }
+        long above = ranking.count.get() - ranking.countUpTo(bucket(score));
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, above) + 1);
+    }
+
+    /**
+     * @param seconds The round length
+     * @param boardSize The number of rows and columns
+     * @return The best scores for the board size and mode, best first (at most TOP_K), or an empty list if there are
+     *         none
+     */
+    public List<Entry> top(int seconds, int boardSize) {
+        Ranking ranking = ranking(seconds, boardSize);
+        List<Entry> entries = new ArrayList<>(TOP_K);
+        if (ranking != null) {
+            for (Entry entry : ranking.top) {
+                if (entries.size() == TOP_K) {
+                    break;
+                }
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @param seconds The round length
+     * @param boardSize The number of rows and columns
+     * @return The number of scores submitted for the board size and mode
+     */
+    public long size(int seconds, int boardSize) {
+        Ranking ranking = ranking(seconds, boardSize);
+        return ranking == null ? 0 : ranking.count.get();
+    }
+
+    /**
+     * @param seconds A round length
+     * @return true if the leaderboard keeps rankings for rounds of that length
+     */
+    public static boolean isMode(int seconds) {
+        return modeIndex(seconds) >= 0;
+    }
+
+    /**
+     * @return The ranking, or null if nothing has been submitted for that size and mode or there is no such ranking
+     */
+    private Ranking ranking(int seconds, int boardSize) {
+        int index = index(seconds, boardSize);
+        return index < 0 ? null : rankings.get(index);
+    }
+
+    private static int index(int seconds, int boardSize) {
+        int mode = modeIndex(seconds);
+        if (mode < 0 || boardSize < BoardGeometry.MIN_SIZE || boardSize > BoardGeometry.MAX_SIZE) {
+            return -1;
+        }
+        return (boardSize - BoardGeometry.MIN_SIZE) * TIMER_MODES.length + mode;
+    }
+
+    private static int modeIndex(int seconds) {
+        for (int i = 0; i < TIMER_MODES.length; i++) {
+            if (TIMER_MODES[i] == seconds) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int bucket(int score) {
+        return Math.max(0, Math.min(SCORE_BUCKETS - 1, score / 100));
+    }
+}
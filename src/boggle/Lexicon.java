@@ -0,0 +1,368 @@
+package boggle;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+* An immutable, compact trie over the lowercase letters a-z used to validate words.
+* Each node is stored as two ints: a bitmask of the letters that have children (bit 26 marks the end of a word)
+* and the index of the node's first child. Children of a node are stored next to each other, so stepping
+* from a node to the child for a letter is a single bit count and needs no allocation.
+*
+* Node ids are plain ints, starting at ROOT. A step that falls off the trie returns NONE.
+*
+* A lexicon can be saved to a binary file with write and opened again with map. The file holds the node
+* array exactly as it is used, so opening it only maps the file into memory and nothing is parsed or copied.
+* File layout (big-endian): magic, version, word count, node count, 26 letter counts (longs), then the nodes.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Trie
+* - https://docs.oracle.com/javase/8/docs/api/java/lang/Integer.html#bitCount-int-
+* - https://docs.oracle.com/javase/8/docs/api/java/nio/channels/FileChannel.html#map-java.nio.channels.FileChannel.MapMode-long-long-
+*/
+public final class Lexicon {
+    public static final int ROOT = 0;
+    public static final int NONE = -1;
+
+    public static final String FILE_EXTENSION = ".lex";
+
+    private static final int WORD_BIT = 1 << 26;
+    private static final int LETTER_MASK = WORD_BIT - 1;
+
+    private static final int MAGIC = 0x42474C58; // "BGLX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * 4 + 26 * 8;
+
+    private final IntBuffer nodes; // nodes[2 * n] = letter mask, nodes[2 * n + 1] = first child
+    private final int wordCount;
+    private final long[] letterCounts;
+
+    private Lexicon(IntBuffer nodes, int wordCount, long[] letterCounts) {
+        this.nodes = nodes;
+        this.wordCount = wordCount;
+        this.letterCounts = letterCounts;
+    }
+
+    /**
+     * Builds a lexicon from a collection of words. Words are lowercased and any word containing
+     * something other than the letters a-z is skipped, since it can never be spelled on the board.
+     *
+     * @param words The words to add
+     * @return The finished lexicon
+     */
+    public static Lexicon of(Iterable<? extends CharSequence> words) {
+        Builder builder = new Builder();
+        for (CharSequence word : words) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Moves from a node to its child for the given letter.
+     *
+     * @param node The current node
+     * @param letter The next letter (upper or lower case)
+     * @return The child node, or NONE if no word continues with that letter
+     */
+    public int step(int node, char letter) {
+        if (node < 0) {
+            return NONE;
+        }
+        int index = (letter | 0x20) - 'a';
+        if (index < 0 || index >= 26) {
+            return NONE;
+        }
+        int mask = nodes.get(2 * node);
+        int bit = 1 << index;
+        if ((mask & bit) == 0) {
+            return NONE;
+        }
+        return nodes.get(2 * node + 1) + Integer.bitCount(mask & LETTER_MASK & (bit - 1));
+    }
+
+    /**
+     * Follows every character of the sequence starting from the root.
+     *
+     * @param chars The characters to follow
+     * @return The node reached, or NONE if the sequence is not a prefix of any word
+     */
+    public int walk(CharSequence chars) {
+        int node = ROOT;
+        for (int i = 0; i < chars.length() && node != NONE; i++) {
+            node = step(node, chars.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * @param node A node id (NONE is allowed)
+     * @return true if a word ends at this node
+     */
+    public boolean isWord(int node) {
+        return node >= 0 && (nodes.get(2 * node) & WORD_BIT) != 0;
+    }
+
+    /**
+     * @param node A node id (NONE is allowed)
+     * @return true if at least one longer word continues past this node
+     */
+    public boolean hasChildren(int node) {
+        return node >= 0 && (nodes.get(2 * node) & LETTER_MASK) != 0;
+    }
+
+    /**
+     * @param word The word to look up (upper or lower case)
+     * @return true if the word is in the lexicon
+     */
+    public boolean contains(CharSequence word) {
+        return isWord(walk(word));
+    }
+
+    /**
+     * @param prefix The prefix to look up (upper or lower case)
+     * @return true if at least one word starts with the prefix
+     */
+    public boolean hasPrefix(CharSequence prefix) {
+        return walk(prefix) != NONE;
+    }
+
+    /**
+     * @return The number of distinct words in the lexicon
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * @return The number of trie nodes, including the root
+     */
+    public int nodeCount() {
+        return nodes.limit() / 2;
+    }
+
+    /**
+     * @return true if the nodes are read from a mapped file, so they take no heap
+     */
+    public boolean isMapped() {
+        return nodes.isDirect();
+    }
+
+    /**
+     * Returns how many times a letter appears across all words, which is what the letter frequencies are built from.
+     *
+     * @param index The letter index, 0 for 'a' through 25 for 'z'
+     * @return The number of occurrences
+     */
+    public long letterCount(int index) {
+        return letterCounts[index];
+    }
+
+    /**
+     * Saves the lexicon in the binary format read by map.
+     *
+     * @param file The file to write
+     * @throws IOException if the file can't be written
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(wordCount).putInt(nodeCount());
+        for (long count : letterCounts) {
+            header.putLong(count);
+        }
+        header.flip();
+
+        ByteBuffer body = ByteBuffer.allocate(nodes.limit() * 4);
+        body.asIntBuffer().put(nodes.duplicate().rewind());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+    }
+
+    /**
+     * Opens a lexicon file written by write. The nodes are read straight from the mapped file, so this
+     * takes about the same time however big the dictionary is.
+     *
+     * @param file The file to open
+     * @return The lexicon backed by the mapped file
+     * @throws IOException if the file can't be read or isn't a lexicon file
+     */
+    public static Lexicon map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // Stays valid after the channel is closed
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(file + " is not a lexicon file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException(file + " has unsupported lexicon version " + version);
+            }
+            int wordCount = buffer.getInt();
+            int nodeCount = buffer.getInt();
+            long[] letterCounts = new long[26];
+            for (int i = 0; i < 26; i++) {
+                letterCounts[i] = buffer.getLong();
+            }
+            if (buffer.remaining() != nodeCount * 8L) {
+                throw new IOException(file + " is truncated");
+            }
+            return new Lexicon(buffer.slice().asIntBuffer(), wordCount, letterCounts);
+        }
+    }
+
+    /**
+     * Collects words into a mutable trie and then packs it into a Lexicon.
+     * While building, each node keeps its children as a linked list of siblings.
+     */
+    public static final class Builder {
+        private int[] firstChild = new int[1024];
+        private int[] nextSibling = new int[1024];
+        private byte[] letter = new byte[1024];
+        private boolean[] terminal = new boolean[1024];
+        private int size = 1; // the root is node 0
+        private int wordCount;
+        private final long[] letterCounts = new long[26];
+
+        public Builder() {
+            firstChild[0] = NONE;
+            nextSibling[0] = NONE;
+        }
+
+        /**
+         * Adds a word. Upper case letters are lowercased, and words with any other characters are skipped.
+         *
+         * @param word The word to add
+         * @return true if the word was new
+         */
+        public boolean add(CharSequence word) {
+            int length = word.length();
+            if (length == 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                int index = (word.charAt(i) | 0x20) - 'a';
+                if (index < 0 || index >= 26) {
+                    return false;
+                }
+            }
+            int node = 0;
+            for (int i = 0; i < length; i++) {
+                node = childFor(node, (word.charAt(i) | 0x20) - 'a');
+            }
+            if (terminal[node]) {
+                return false;
+            }
+            terminal[node] = true;
+            wordCount++;
+            for (int i = 0; i < length; i++) {
+                letterCounts[(word.charAt(i) | 0x20) - 'a']++;
+            }
+            return true;
+        }
+
+        /**
+         * Adds every word of another builder to this one. The two tries are merged node by node: each node of the
+         * other trie is matched with the node for the same prefix here (added if it is missing), so every node is
+         * visited once and no word is spelled out and looked up from the root again.
+         *
+         * @param other The builder to copy words from
+         */
+        public void addAll(Builder other) {
+            merge(other, 0, 0, new byte[32], 0);
+        }
+
+        /**
+         * Merges the subtree under otherNode in the other builder into the one under node.
+         *
+         * @param path The letters from the root down to both nodes, for counting the letters of new words
+         * @param depth The number of letters in path
+         */
+        private void merge(Builder other, int otherNode, int node, byte[] path, int depth) {
+            if (other.terminal[otherNode] && !terminal[node]) {
+                terminal[node] = true;
+                wordCount++;
+                for (int i = 0; i < depth; i++) {
+                    letterCounts[path[i]]++;
+                }
+            }
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            for (int child = other.firstChild[otherNode]; child != NONE; child = other.nextSibling[child]) {
+                byte index = other.letter[child];
+                path[depth] = index;
+                merge(other, child, childFor(node, index), path, depth + 1);
+            }
+        }
+
+        /**
+         * @return The number of distinct words added so far
+         */
+        public int size() {
+            return wordCount;
+        }
+
+        /**
+         * Packs the trie so that the children of every node sit next to each other in letter order.
+         *
+         * @return The finished lexicon
+         */
+        public Lexicon build() {
+            int[] packed = new int[2 * size];
+            int[] order = new int[size]; // builder node for each packed node, in breadth-first order
+            int[] children = new int[26];
+            int next = 1;
+            for (int packedNode = 0; packedNode < next; packedNode++) {
+                int node = order[packedNode];
+                int mask = terminal[node] ? WORD_BIT : 0;
+                Arrays.fill(children, NONE);
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    children[letter[child]] = child;
+                    mask |= 1 << letter[child];
+                }
+                packed[2 * packedNode] = mask;
+                packed[2 * packedNode + 1] = next;
+                for (int i = 0; i < 26; i++) {
+                    if (children[i] != NONE) {
+                        order[next++] = children[i];
+                    }
+                }
+            }
+            return new Lexicon(IntBuffer.wrap(packed), wordCount, letterCounts.clone());
+        }
+
+        private int childFor(int node, int index) {
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (letter[child] == index) {
+                    return child;
+                }
+            }
+            if (size == firstChild.length) {
+                int capacity = size * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                letter = Arrays.copyOf(letter, capacity);
+                terminal = Arrays.copyOf(terminal, capacity);
+            }
+            int child = size++;
+            firstChild[child] = NONE;
+            nextSibling[child] = firstChild[node];
+            letter[child] = (byte) index;
+            firstChild[node] = child;
+            return child;
+        }
+    }
+}
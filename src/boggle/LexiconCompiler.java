@@ -0,0 +1,44 @@
+package boggle;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+* Compiles a word list (the english.txt format read by DictionaryLoader) into a binary lexicon file
+* that the game can memory-map at startup instead of parsing the text every time.
+*
+* Usage: java boggle.LexiconCompiler english.txt [english.lex]
+* If no output file is given, the compiled file is written next to the word list with the .lex extension.
+*/
+public final class LexiconCompiler {
+    private LexiconCompiler() {
+    }
+
+    /**
+     * Returns the compiled file that belongs next to a word list, e.g. english.txt -> english.lex.
+     *
+     * @param source The word list
+     * @return The path of its compiled lexicon
+     */
+    public static Path compiledPathFor(Path source) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return source.resolveSibling(base + Lexicon.FILE_EXTENSION);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: java boggle.LexiconCompiler <word list> [output" + Lexicon.FILE_EXTENSION + "]");
+            System.exit(2);
+        }
+        Path source = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : compiledPathFor(source);
+
+        long start = System.nanoTime();
+        Lexicon lexicon = DictionaryLoader.parseFile(source);
+        lexicon.write(output);
+        System.out.printf("Compiled %d words (%d nodes) into %s in %d ms%n",
+                lexicon.size(), lexicon.nodeCount(), output, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,279 @@
+package boggle;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* The word lists the game can be played with (for example english, tournament, casual, kids), each loaded the first
+* time it is asked for and then shared by every window and server session in the process.
+*
+* The lists come from the boggle.lexicons system property, a comma-separated list of name=location pairs, e.g.
+*   -Dboggle.lexicons=english=src/english.txt,kids=words/kids.txt,tournament=words/tournament.lex
+* The first one is the default. Locations are anything DictionaryLoader can load. When the property isn't set there is
+* a single "english" list at the usual dictionary location (see DictionaryLoader).
+*
+* A word list that isn't already a compiled .lex file is compiled once into the cache directory (boggle.lexiconCache,
+* default ~/.boggle/lexicons; set it to nothing, -Dboggle.lexiconCache=, to write no files) and memory-mapped from there, so every loaded lexicon lives in the page cache rather
+* than on the heap, and one that hasn't been used for a while costs almost nothing. Later runs map the cached file
+* straight away, unless the word list has changed since. If the cache can't be written, the lexicon is kept on the heap.
+*
+* Each lexicon also gets its own BoardGenerator, so the letter and vowel frequency tables are worked out once per
+* lexicon, and its own SolutionCache for the daily boards.
+*
+* SOURCES:
+* - https://en.wikipedia.org/wiki/Initialization-on-demand_holder_idiom
+* - https://docs.oracle.com/javase/8/docs/api/java/nio/MappedByteBuffer.html
+*/
+public final class LexiconRegistry {
+    public static final String PROPERTY = "boggle.lexicons";
+    public static final String CACHE_PROPERTY = "boggle.lexiconCache";
+    public static final String DEFAULT_NAME = "english";
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(); // Fixed once built, so reads need no lock
+    private final Path cacheDirectory;
+
+    /**
+     * @param locations The lexicon names and where to load each one from, the default first
+     * @param cacheDirectory Where compiled word lists are kept, or null to keep them on the heap
+     */
+    public LexiconRegistry(Map<String, String> locations, Path cacheDirectory) {
+        if (locations.isEmpty()) {
+            throw new IllegalArgumentException("no lexicons");
+        }
+        for (Map.Entry<String, String> location : locations.entrySet()) {
+            entries.put(location.getKey(), new Entry(location.getKey(), location.getValue()));
+        }
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    private static final class Shared {
+        static final LexiconRegistry INSTANCE = configured();
+    }
+
+    /**
+     * @return The registry shared by everything in this process, set up from the system properties
+     */
+    public static LexiconRegistry shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Creates a registry from the boggle.lexicons and boggle.lexiconCache properties. Badly formed pairs are skipped.
+     * The cache directory is ~/.boggle/lexicons unless boggle.lexiconCache is set, and an empty one turns it off.
+     *
+     * @return The new registry
+     */
+    public static LexiconRegistry configured() {
+        Map<String, String> locations = new LinkedHashMap<>();
+        String property = System.getProperty(PROPERTY, "");
+        for (String pair : property.split(",")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && equals < pair.length() - 1) {
+                locations.putIfAbsent(pair.substring(0, equals).trim(), pair.substring(equals + 1).trim());
+            } else if (!pair.trim().isEmpty()) {
+                System.err.println("Ignoring lexicon \"" + pair + "\", expected name=location");
+            }
+        }
+        if (locations.isEmpty()) {
+            locations.put(DEFAULT_NAME, DictionaryLoader.configuredLocation());
+        }
+        String cache = System.getProperty(CACHE_PROPERTY);
+        Path cacheDirectory = cache == null ? Paths.get(System.getProperty("user.home"), ".boggle", "lexicons")
+                : cache.trim().isEmpty() ? null : Paths.get(cache.trim());
+        return new LexiconRegistry(locations, cacheDirectory);
+    }
+
+    /**
+     * @return The lexicon names, the default first
+     */
+    public List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(entries.keySet()));
+    }
+
+    /**
+     * @return The default lexicon
+     */
+    public Entry defaultEntry() {
+        return entries.values().iterator().next();
+    }
+
+    /**
+     * Looks up a lexicon by name. Nothing is loaded until its lexicon, generator or solutions are asked for.
+     *
+     * @param name The lexicon name
+     * @return The lexicon, or null if there is none by that name
+     */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * One named word list, with the generator and solution cache that go with it.
+     */
+    public final class Entry {
+        private final String name;
+        private final String location;
+        private volatile Lexicon lexicon;
+        private volatile BoardGenerator generator;
+        private volatile SolutionCache solutions;
+
+        private Entry(String name, String location) {
+            this.name = name;
+            this.location = location;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String location() {
+            return location;
+        }
+
+        /**
+         * @return true once the lexicon has been loaded
+         */
+        public boolean isLoaded() {
+            return lexicon != null;
+        }
+
+        /**
+         * Returns the lexicon, loading it on the first call. Threads that ask while it is loading wait for it.
+         * If it can't be read, the error is printed and the lexicon is empty.
+         *
+         * @return The lexicon
+         */
+        public Lexicon lexicon() {
+            Lexicon loaded = lexicon;
+            if (loaded == null) {
+                synchronized (this) {
+                    loaded = lexicon;
+                    if (loaded == null) {
+                        loaded = load(location);
+                        lexicon = loaded;
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        /**
+         * @return The board generator for this lexicon's letter frequencies, built on the first call
+         */
+        public BoardGenerator generator() {
+            BoardGenerator built = generator;
+            if (built == null) {
+                synchronized (this) {
+                    built = generator;
+                    if (built == null) {
+                        built = new BoardGenerator(lexicon());
+                        generator = built;
+                    }
+                }
+            }
+            return built;
+        }
+
+        /**
+         * @return The cache of boards solved with this lexicon, made on the first call
+         */
+        public SolutionCache solutions() {
+            SolutionCache made = solutions;
+            if (made == null) {
+                synchronized (this) {
+                    made = solutions;
+                    if (made == null) {
+                        made = new SolutionCache(lexicon());
+                        solutions = made;
+                    }
+                }
+            }
+            return made;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Loads a lexicon, mapping it from the cache directory if it has been compiled there and the source hasn't changed
+     * since, and compiling it there if not.
+     */
+    private Lexicon load(String location) {
+        try {
+            if (location.endsWith(Lexicon.FILE_EXTENSION) || cacheDirectory == null) {
+                return DictionaryLoader.load(location);
+            }
+            Path compiled = cacheDirectory.resolve(cacheName(location));
+            long sourceModified = lastModified(location);
+            if (sourceModified >= 0 && Files.exists(compiled)
+                    && Files.getLastModifiedTime(compiled).toMillis() >= sourceModified) {
+                try {
+                    return Lexicon.map(compiled);
+                } catch (IOException ex) {
+                    // Damaged or from an older version; compile it again
+                }
+            }
+
+            Lexicon parsed = DictionaryLoader.load(location);
+            if (parsed.isMapped() || parsed.size() == 0) {
+                return parsed; // A compiled file next to the word list was used
+            }
+            try {
+                Files.createDirectories(cacheDirectory);
+                Path temporary = Files.createTempFile(cacheDirectory, "lexicon", ".tmp");
+                parsed.write(temporary);
+                Files.move(temporary, compiled, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return Lexicon.map(compiled); // The parsed copy on the heap can now be collected
+            } catch (IOException ex) {
+                // Still playable, just from the heap
+                System.err.println("Could not cache the word list " + location + " in " + cacheDirectory + " (" + ex
+                        + "); keeping it in memory. Set -D" + CACHE_PROPERTY + "= to another directory, or to nothing to stop caching");
+                return parsed;
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return Lexicon.of(Collections.<String>emptyList());
+        }
+    }
+
+    /**
+     * @return A file name for the compiled copy of a location, different for every location
+     */
+    private static String cacheName(String location) {
+        String path = location.startsWith(DictionaryLoader.CLASSPATH_PREFIX)
+                ? location.substring(DictionaryLoader.CLASSPATH_PREFIX.length()) : location;
+        String name = Paths.get(path).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = (dot > 0 ? name.substring(0, dot) : name).replaceAll("[^A-Za-z0-9_-]", "_");
+        return base + "-" + Integer.toHexString(location.hashCode()) + Lexicon.FILE_EXTENSION;
+    }
+
+    /**
+     * @return When the word list was last changed, or -1 if that can't be told
+     */
+    private static long lastModified(String location) {
+        try {
+            if (location.startsWith(DictionaryLoader.CLASSPATH_PREFIX)) {
+                URL resource = LexiconRegistry.class.getClassLoader()
+                        .getResource(location.substring(DictionaryLoader.CLASSPATH_PREFIX.length()));
+                long modified = resource == null ? 0 : resource.openConnection().getLastModified();
+                return modified > 0 ? modified : -1;
+            }
+            return Files.getLastModifiedTime(Paths.get(location)).toMillis();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+}
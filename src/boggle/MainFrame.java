@@ -0,0 +1,893 @@
+package boggle;
+
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.*;
+
+/**
+* This class provides the GUI for the game BOGGLE.
+* The game state, word checking, scoring and statistics live in GameEngine; this class shows them and passes on the player's clicks.
+* The game involves a square grid of letters (3x3 up to 10x10, with at least 1 vowel), where the player forms valid words by selecting adjacent letters.
+* The player is given a time limit, and the game tracks various statistics such as score, words found, and highest-scoring words.
+*
+* The game ends when the timer reaches zero, and the final statistics are displayed to the user.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/javax/swing/JFrame.html
+* - https://docs.oracle.com/javase/8/docs/api/java/awt/Component.html
+* - https://docs.oracle.com/javase/8/docs/api/javax/swing/JComponent.html
+* - https://web.mit.edu/6.005/www/sp14/psets/ps4/java-6-tutorial/components.html
+* - https://www.youtube.com/watch?v=5G2XM1nlX5Q&t=609s
+* - https://stackoverflow.com/questions/859691/a-fast-way-to-determine-whether-a-componet-is-found-in-jpanel
+*/
+public class MainFrame extends JFrame {
+   final private Font mainFont = new Font("Segoe print", Font.BOLD, 18);
+   private static final Color SELECTED_COLOR = new Color(120, 120, 255);
+   private static final Color PREFIX_COLOR = Color.BLACK; // Current word colors: still the start of some word,
+   private static final Color WORD_COLOR = new Color(0, 140, 0); // a whole word,
+   private static final Color DEAD_END_COLOR = new Color(200, 0, 0); // or no word starts with it
+   // Panels/Layout
+   private CardLayout cardLayout;
+   private JPanel cardPanel;
+   private JPanel finalPanel;
+   private JLabel finalScoreLabel;
+   private JTextArea statsArea;
+   private JTextArea finalWordsArea;
+   private JPanel welcomeTimerOptions; // The welcome panel's timer buttons, disabled until warm-up is done
+   private JProgressBar warmUpProgress;
+
+
+   // Labels
+   private WordLabel lbWord; // Draws the word from a char buffer, so clicking a letter makes no String
+   private JLabel lbPoints;
+   private JLabel timerLabel;
+
+
+   // Game state, words found and stats
+   private GameEngine engine;
+   private WordValidator validator; // Checks submitted words off the event thread
+   private boolean roundOver; // Set when the time runs out, until the next game; words can't be submitted then
+   private int wordsShown; // Accepted words listed in the found words box this game
+   private JTextArea foundWordsArea; 
+
+
+   // Grid Letters
+   private BoardComponent board;
+   private int boardSize;
+   private DefaultComboBoxModel<String> boardSizeModel; // Shared by the size pickers on the welcome and final panels
+   private DefaultComboBoxModel<String> lexiconModel; // Shared by the word list pickers the same way
+   private final JToggleButton.ToggleButtonModel dailyModel = new JToggleButton.ToggleButtonModel(); // "Daily board", shared the same way
+
+
+   // Timer
+   private TimingWheel.Timeout countdown; // Ticks once a second on the shared timing wheel
+   private int countdownRound; // Ignores ticks from an earlier game that were already on their way to the event thread
+   private int countdownTime = 90;
+
+
+   private final LexiconRegistry lexicons = LexiconRegistry.shared(); // Set the word lists with -Dboggle.lexicons=name=location,...
+   private LexiconRegistry.Entry lexicon = lexicons.defaultEntry(); // The word list being played; has its own generator
+   private BoardPool boardPool;
+   private boolean warmBoardUnplayed; // The engine still has the board solved during warm-up, which the first game gets
+   private boolean startingGame; // A new game is being got ready in the background; the timer buttons do nothing until it is
+   private GameHistoryStore history; // Set the location with -Dboggle.history=...; opened during warm-up
+
+
+   /**
+    * Initializes the game window and shows the welcome panel straight away. The dictionary and everything built from it
+    * are loaded in the background (see warmUp), and the timer buttons are enabled once they are ready.
+    * CONTRIBUTOR: Drae
+    */
+   public void initialize() {
+       // Initialize instance variables
+       boardSize = Math.max(BoardGeometry.MIN_SIZE, Math.min(BoardGeometry.MAX_SIZE, Integer.getInteger("boggle.boardSize", 3)));
+       boardSizeModel = new DefaultComboBoxModel<>();
+       for (int size = BoardGeometry.MIN_SIZE; size <= BoardGeometry.MAX_SIZE; size++) {
+           boardSizeModel.addElement(size + "x" + size);
+       }
+       boardSizeModel.setSelectedItem(boardSize + "x" + boardSize);
+       lexiconModel = new DefaultComboBoxModel<>(lexicons.names().toArray(new String[0])); // The default is first
+       cardLayout = new CardLayout();
+       cardPanel = new JPanel(cardLayout);
+  
+       // Only the welcome panel for now; the other 2 need the game engine
+       cardPanel.add(createWelcomePanel(), "Welcome");
+  
+       add(cardPanel);
+      
+       // Display GUI
+       setSize(500, 500);
+       setMinimumSize(new Dimension(300, 400));
+       setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+       setVisible(true);
+
+       warmUp();
+   }
+
+
+   /**
+    * Loads the dictionary, builds the letter frequencies, opens the game history and starts filling the board pool
+    * on a background thread, showing each step on the welcome panel's progress bar. When it is done, the game engine
+    * and the grid and final panels are created on the event thread and the timer buttons are enabled.
+    */
+   private void warmUp() {
+       final LexiconRegistry.Entry warmLexicon = lexicon;
+       final int warmSize = boardSize;
+       new SwingWorker<GameEngine, String>() {
+           private BoardPool pool;
+           private GameHistoryStore store;
+
+           @Override
+           protected GameEngine doInBackground() {
+               publish("Loading words...");
+               Lexicon dictionary = warmLexicon.lexicon();
+               setProgress(40);
+               publish("Counting letters...");
+               warmLexicon.generator();
+               setProgress(60);
+               publish("Opening game history...");
+               store = GameHistoryStore.openConfigured();
+               setProgress(75);
+               publish("Dealing boards...");
+               pool = createBoardPool(warmLexicon, warmSize);
+               // Every round is handed a board solved off the event thread (see resetGame), so the engine never picks one itself
+               GameEngine warmEngine = new GameEngine(dictionary, size -> {
+                   throw new IllegalStateException("MainFrame hands every round its board");
+               }, store);
+               warmEngine.newRound(pool.next()); // The first game's board, solved now rather than when the first game starts
+               setProgress(100);
+               return warmEngine;
+           }
+
+           @Override
+           protected void process(List<String> steps) {
+               warmUpProgress.setString(steps.get(steps.size() - 1));
+               warmUpProgress.setValue(getProgress());
+           }
+
+           @Override
+           protected void done() {
+               try {
+                   engine = get();
+               } catch (Exception ex) {
+                   ex.printStackTrace();
+                   warmUpProgress.setString("Could not start the game");
+                   return;
+               }
+               boardPool = pool;
+               warmBoardUnplayed = true;
+               history = store;
+               validator = new WordValidator(engine, results -> showValidated(results));
+               if (history != null) {
+                   Runtime.getRuntime().addShutdownHook(new Thread(history::close)); // Syncs the last games to disk
+               }
+               cardPanel.add(createGridPanel(), "Grid");
+               finalPanel = createFinalPanel();
+               cardPanel.add(finalPanel, "Final");
+
+               warmUpProgress.setVisible(false);
+               for (Component button : welcomeTimerOptions.getComponents()) {
+                   button.setEnabled(true);
+               }
+           }
+       }.execute();
+   }
+  
+   /**
+    * Creates a pool of solved boards of the given size, from the given word list. The pool keeps a few boards ready so a new game starts instantly,
+    * and skips boards with too few words.
+    *
+    * @param words The word list, loaded first if it isn't yet
+    * @param size The number of rows and columns
+    * @return The new pool
+    */
+   private BoardPool createBoardPool(LexiconRegistry.Entry words, int size) {
+       return new BoardPool(words.generator(), words.lexicon(), size,
+               Integer.getInteger("boggle.minWords", 5), Integer.getInteger("boggle.minScore", 0), 16);
+   }
+
+
+   /**
+    * Starts the countdown timer, initializes the label and sets the timer action.
+    * CONTRIBUTORS: Lara and Elle
+    */
+   private void startTimer(int selectedTime) {
+       countdownTime = selectedTime;
+       timerLabel.setText("Time left: " + countdownTime + " seconds"); //updates countdown time
+      
+       // Making timer; the wheel thread only passes each tick on to the event thread
+       if (countdown != null) {
+           countdown.cancel();
+       }
+       final int round = ++countdownRound;
+       countdown = TimingWheel.shared().scheduleRepeating(() -> SwingUtilities.invokeLater(() -> countdownTick(round)), 1, TimeUnit.SECONDS);
+   }
+
+
+   /**
+    * Counts down one second, and ends the game when the time is up.
+    *
+    * @param round The game the tick belongs to
+    */
+   private void countdownTick(int round) {
+       if (round != countdownRound || countdown.isCancelled()) {
+           return; // The timer of a game that is already over
+       }
+       countdownTime--; //decrement countdown time
+       if (countdownTime >= 0) {
+           timerLabel.setText("Time left: " + countdownTime + " seconds");
+       } else { //when timer reaches 0
+           countdown.cancel(); //stops timer
+           roundOver = true;
+           engine.selection().clear(); // Here, since the selection belongs to the event thread
+           deselectButton();
+           // Words still being checked are counted first, then the stats for this game are recorded off the event thread
+           validator.endRound(() -> {
+               updateFinalPanel();
+               cardLayout.show(cardPanel, "Final"); //takes to final page
+           });
+       }
+   }
+
+
+   /**
+    * Handles a click on a cell of the grid, to select it or, if it is already selected, submit the word.
+    * CONTRIBUTOR: Drae
+    *
+    * @param cell The cell id of the clicked cell (row * board size + column)
+    */
+   private void buttonClickAction(int cell) {
+       if (engine.selection().contains(cell)) { // The cell was already selected, so the word is submitted
+           submitSelection();
+           return;
+       }
+       if (engine.click(cell) == GameEngine.ClickResult.SELECTED) { // The cell was next to the last selected one
+           selectButton();
+       } // Not adjacent, nothing happens
+   }
+
+
+   /**
+    * Handles a drag onto a cell. Dragging back onto the cell before the last one takes the last letter off;
+    * dragging over a cell that is already selected does nothing, so a drag never submits halfway.
+    *
+    * @param cell The cell id the drag moved onto
+    */
+   private void dragAction(int cell) {
+       SelectionPath selection = engine.selection();
+       if (selection.length() > 1 && selection.cell(selection.length() - 2) == cell) {
+           undoSelection();
+       } else if (selection.canAdd(cell)) {
+           buttonClickAction(cell);
+       }
+   }
+
+
+   /**
+    * Submits the dragged word when the mouse is let go.
+    */
+   private void dragFinishedAction() {
+       if (!engine.selection().isEmpty()) {
+           submitSelection();
+       }
+   }
+
+
+   /**
+    * Hands the current word to the validator and clears it from the board straight away. The score and the found words
+    * are updated when the result comes back (see showValidated).
+    */
+   private void submitSelection() {
+       long start = Metrics.start(); // The event thread's whole share of a submit, until the board is ready for the next word
+       SelectionPath selection = engine.selection();
+       if (!roundOver) {
+           validator.submit(selection.toString(), selection.node());
+       }
+       selection.clear();
+       deselectButton();
+       Metrics.UI_SUBMIT.stop(start);
+   }
+
+
+   /**
+    * Shows a newly selected cell and the current word.
+    * CONTRIBUTOR: Drae
+    */
+   private void selectButton() {
+       board.selectionChanged();
+       updateWordLabel();
+   }
+
+
+   /**
+    * Takes the last letter off the current word (right click or Backspace).
+    */
+   private void undoSelection() {
+       if (engine.undo() >= 0) {
+           board.selectionChanged();
+           updateWordLabel();
+       }
+   }
+
+
+   /**
+    * Shows the current word, colored by whether it is a word, the start of one, or a dead end.
+    */
+   private void updateWordLabel() {
+       switch (engine.pathState()) {
+           case WORD:
+               lbWord.setForeground(WORD_COLOR);
+               break;
+           case DEAD_END:
+               lbWord.setForeground(DEAD_END_COLOR);
+               break;
+           default:
+               lbWord.setForeground(PREFIX_COLOR);
+               break;
+       }
+       lbWord.setWord(engine.selection());
+   }
+
+
+   /**
+    * Clears the word and the selected cells after a word was submitted.
+    * CONTRIBUTOR: Drae
+    */
+   private void deselectButton() {
+       // Reset everything; only the cells that were selected are repainted
+       updateWordLabel();
+       board.selectionChanged();
+   }
+
+
+   /**
+    * Shows a batch of checked words, in the order they were submitted: the score and the found words for the ones
+    * that were accepted.
+    *
+    * @param results The checked words
+    */
+   private void showValidated(List<WordValidator.Result> results) {
+       StringBuilder accepted = new StringBuilder();
+       for (WordValidator.Result result : results) {
+           if (result.result() == GameEngine.SubmitResult.ACCEPTED) {
+               accepted.append(wordsShown++ > 0 ? ", " : "").append(result.word());
+           }
+       }
+       if (accepted.length() > 0) {
+           lbPoints.setText("SCORE: " + results.get(results.size() - 1).score());
+           // Only the new words are added to the end of the text, instead of writing out the whole list again
+           foundWordsArea.append(accepted.toString());
+       }
+   }
+
+
+   /**
+    * Creates and returns the first panel/screen that is displayed when the game starts.
+    * This panel contains the title, instructions, and the play button.
+    * CONTRIBUTOR: Drae (Main), Lara (Editor)
+    *
+    * @return JPanel - the title panel
+    */
+   private JPanel createWelcomePanel() {
+       Color purple = new Color(78, 12, 176);
+       //Initialize panel
+       JPanel welcomePanel = new JPanel();
+       welcomePanel.setLayout(new BorderLayout(0, 20));
+       welcomePanel.setBackground(purple);
+       welcomePanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+  
+       // Create title label
+       JLabel welcomeLabel = new JLabel("BOGGLE");
+       welcomeLabel.setFont(mainFont.deriveFont(48f));
+       welcomeLabel.setHorizontalAlignment(SwingConstants.CENTER);
+       welcomeLabel.setForeground(Color.WHITE);
+  
+       // Directions
+       JLabel directionsLabel = new JLabel(
+           "<html><div style='text-align: left; width: 400px;'>" +
+           "Directions:<br><br>" +
+           "1. Click adjacent letters to form words. Green means it is a word, red means no word starts that way. Right click or Backspace to undo a letter<br><br>" +
+           "2. Words must be atleast 3 letters. Longer words score more points.<br><br>" +
+           "3. Pick a board size, then click the number of seconds below to start!" +
+           "</div></html>"
+       );
+       directionsLabel.setFont(mainFont);
+       directionsLabel.setForeground(Color.WHITE);
+       directionsLabel.setHorizontalAlignment(SwingConstants.LEFT);
+
+       // Displays all of the timer option buttons (LARA)
+       JPanel timerOptionsPanel = new JPanel (new FlowLayout(FlowLayout.CENTER,30,0));
+       timerOptionsPanel.setBackground(purple);
+       timerOptionsPanel.add(thirtySeconds()); // 30 second timer button
+       timerOptionsPanel.add(sixtySeconds()); //60 second timer button
+       timerOptionsPanel.add(ninetySeconds()); // 90 second timer button
+       timerOptionsPanel.add(oneTwentySeconds()); //120 second timer button
+       for (Component button : timerOptionsPanel.getComponents()) {
+           button.setEnabled(false); // Until the dictionary is loaded
+       }
+       welcomeTimerOptions = timerOptionsPanel;
+  
+       // Shows how far loading has got
+       warmUpProgress = new JProgressBar(0, 100);
+       warmUpProgress.setStringPainted(true);
+       warmUpProgress.setString("Starting...");
+       warmUpProgress.setFont(mainFont.deriveFont(Font.PLAIN, 14f));
+  
+       // Center panel for directions
+       JPanel centerPanel = new JPanel(new GridBagLayout());
+       centerPanel.setBackground(purple);
+       GridBagConstraints gbc = new GridBagConstraints();
+       gbc.gridx = 0;
+       gbc.gridy = 0;
+       gbc.anchor = GridBagConstraints.WEST;  // Align the label to the left
+       centerPanel.add(directionsLabel, gbc);
+       gbc.gridy = 1;
+       gbc.anchor = GridBagConstraints.CENTER;
+       gbc.insets = new Insets(20, 0, 0, 0);
+       centerPanel.add(createBoardSizePanel(purple, Color.WHITE), gbc); // board size picker
+       gbc.gridy = 2;
+       gbc.fill = GridBagConstraints.HORIZONTAL;
+       centerPanel.add(warmUpProgress, gbc);
+  
+       // Adding all components to panel
+       welcomePanel.add(welcomeLabel, BorderLayout.NORTH);
+       welcomePanel.add(centerPanel, BorderLayout.CENTER);
+       welcomePanel.add(timerOptionsPanel, BorderLayout.SOUTH);
+  
+       return welcomePanel;
+   }
+
+
+   /**
+   * Creates and returns a JButton configured for a "30 Seconds" game mode.
+   * CONTRIBUTER: Lara
+   * 
+   * @return JButton A button labeled "30"
+   */
+   private JButton thirtySeconds(){
+       //setting up button preferences: 
+        JButton thirtySec = new JButton("30"); 
+       thirtySec.setFont(mainFont);
+       thirtySec.setBackground(Color.WHITE);
+       thirtySec.setForeground(Color.BLACK);
+       thirtySec.setOpaque(true);
+       thirtySec.setBorderPainted(false);
+       thirtySec.setFocusPainted(false);
+       thirtySec.setPreferredSize(new Dimension(80,50));
+       thirtySec.addActionListener (e -> {
+           resetGame(30); // for when it is the 2nd+ time playing
+    });
+       return thirtySec;
+   }
+
+
+   /**
+   * Creates and returns a JButton configured for a "60 Seconds" game mode.
+   * CONTRIBUTER: Lara
+   * 
+   * @return JButton A button labeled "60"
+   */
+   private JButton sixtySeconds(){ //Lara
+        //setting up button preferences:  
+        JButton sixtySec = new JButton("60");
+       sixtySec.setFont(mainFont);
+       sixtySec.setBackground(Color.WHITE);
+       sixtySec.setForeground(Color.BLACK);
+       sixtySec.setOpaque(true);
+       sixtySec.setBorderPainted(false);
+       sixtySec.setFocusPainted(false);
+       sixtySec.setPreferredSize(new Dimension(80,50));
+       sixtySec.addActionListener (e -> {
+           resetGame(60); //for when it is the 2nd+ time playing
+   });
+       return sixtySec;
+   }
+
+   /**
+   * Creates and returns a JButton configured for a "90 Seconds" game mode.
+   * CONTRIBUTER: Lara
+   * 
+   * @return JButton A button labeled "90"
+   */
+   private JButton ninetySeconds(){ //Lara
+    //setting up button preferences: 
+       JButton ninetySec = new JButton("90");
+       ninetySec.setFont(mainFont);
+       ninetySec.setBackground(Color.WHITE);
+       ninetySec.setForeground(Color.BLACK);
+       ninetySec.setOpaque(true);
+       ninetySec.setBorderPainted(false);
+       ninetySec.setFocusPainted(false);
+       ninetySec.setPreferredSize(new Dimension(80,50));
+       ninetySec.addActionListener (e -> {
+           resetGame(90); //for when it is the 2nd+ time playing
+    });
+       return ninetySec;  
+   }
+
+   /**
+   * Creates and returns a JButton configured for a "120 Seconds" game mode.
+   * CONTRIBUTER: Lara
+   * 
+   * @return JButton A button labeled "120"
+   */
+   private JButton oneTwentySeconds(){ //Lara
+    //setting up button preferences: 
+       JButton oneTwentySec = new JButton("120");
+       oneTwentySec.setFont(mainFont);
+       oneTwentySec.setBackground(Color.WHITE);
+       oneTwentySec.setForeground(Color.BLACK);
+       oneTwentySec.setOpaque(true);
+       oneTwentySec.setBorderPainted(false);
+       oneTwentySec.setFocusPainted(false);
+       oneTwentySec.setPreferredSize(new Dimension(80,50));
+       oneTwentySec.addActionListener (e -> {
+           resetGame(120); //for when it is the 2nd+ time playing
+    });
+       return oneTwentySec;
+   }
+
+   /**
+    * Creates and returns the grid panel, which is displayed during the game.
+    * This panel contains the letter grid, word/score display, and the timer.
+    * CONTRIBUTOR: Drae
+    *
+    * @return JPanel - the grid panel
+    */
+   private JPanel createGridPanel() {
+       JPanel gridPanel = new JPanel();
+       gridPanel.setLayout(new BorderLayout()); 
+  
+       JPanel topPanel = new JPanel();
+       topPanel.setLayout(new BorderLayout());
+      
+       // Word Label
+       lbWord = new WordLabel();
+       lbWord.setFont(mainFont);
+      
+       // Score label
+       lbPoints = new JLabel();
+       lbPoints.setFont(mainFont);
+       lbPoints.setText("SCORE: " + engine.score()); 
+       lbPoints.setHorizontalAlignment(SwingConstants.RIGHT); 
+  
+       topPanel.add(lbWord, BorderLayout.WEST); 
+       topPanel.add(lbPoints, BorderLayout.EAST);
+  
+       // Timer
+       timerLabel = new JLabel("Time left: 60 seconds", SwingConstants.CENTER);
+       timerLabel.setFont(mainFont);
+       timerLabel.setPreferredSize(new Dimension(500, 30));
+      
+       // Letter grid, painted as one component
+       board = new BoardComponent(mainFont, SELECTED_COLOR, new BoardComponent.Listener() {
+           @Override
+           public void cellClicked(int cell) {
+               buttonClickAction(cell);
+           }
+
+           @Override
+           public void cellDragged(int cell) {
+               dragAction(cell);
+           }
+
+           @Override
+           public void dragFinished() {
+               dragFinishedAction();
+           }
+
+           @Override
+           public void undoRequested() {
+               undoSelection();
+           }
+       });
+       board.setBoard(engine.letterGrid(), engine.selection());
+  
+       // Found words box
+       foundWordsArea = new JTextArea();
+       foundWordsArea.setFont(new Font("Segoe print", Font.PLAIN, 14));
+       foundWordsArea.setEditable(false);
+       foundWordsArea.setBackground(new Color(240, 240, 240));
+       foundWordsArea.setText("WORDS FOUND: ");
+      
+       JScrollPane scrollPane = new JScrollPane(foundWordsArea);
+       scrollPane.setPreferredSize(new Dimension(500, 100));
+  
+       JPanel bottomPanel = new JPanel();
+       bottomPanel.setLayout(new BorderLayout());
+       bottomPanel.add(timerLabel, BorderLayout.NORTH);
+       bottomPanel.add(scrollPane, BorderLayout.CENTER);
+  
+       // Adding all components to penl
+       gridPanel.add(topPanel, BorderLayout.NORTH); 
+       gridPanel.add(board, BorderLayout.CENTER); 
+       gridPanel.add(bottomPanel, BorderLayout.SOUTH); 
+
+       // Backspace takes the last letter off the current word
+       gridPanel.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_BACK_SPACE, 0), "undo");
+       gridPanel.getActionMap().put("undo", new AbstractAction() {
+           @Override
+           public void actionPerformed(ActionEvent e) {
+               undoSelection();
+           }
+       });
+  
+       return gridPanel;
+   }
+
+
+   /**
+    * Creates a labelled drop-down for picking the board size, a "Daily board" check box, and a drop-down for the word list
+    * when there is more than one. All of the pickers share the same models, so they always agree.
+    *
+    * @param background The background color of the panel
+    * @param foreground The color of the label text
+    * @return JPanel - the board size picker
+    */
+   private JPanel createBoardSizePanel(Color background, Color foreground) {
+       JLabel boardSizeLabel = new JLabel("Board size:");
+       boardSizeLabel.setFont(mainFont.deriveFont(Font.PLAIN, 14f));
+       boardSizeLabel.setForeground(foreground);
+  
+       JComboBox<String> boardSizeBox = new JComboBox<>(boardSizeModel);
+       boardSizeBox.setFont(mainFont.deriveFont(Font.PLAIN, 14f));
+  
+       JCheckBox dailyBox = new JCheckBox("Daily board");
+       dailyBox.setModel(dailyModel);
+       dailyBox.setFont(mainFont.deriveFont(Font.PLAIN, 14f));
+       dailyBox.setForeground(foreground);
+       dailyBox.setBackground(background);
+       dailyBox.setToolTipText("Everyone gets the same board today");
+  
+       JPanel boardSizePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
+       boardSizePanel.setBackground(background);
+       boardSizePanel.add(boardSizeLabel);
+       boardSizePanel.add(boardSizeBox);
+       boardSizePanel.add(dailyBox);
+       if (lexiconModel.getSize() > 1) {
+           JComboBox<String> lexiconBox = new JComboBox<>(lexiconModel);
+           lexiconBox.setFont(mainFont.deriveFont(Font.PLAIN, 14f));
+           lexiconBox.setToolTipText("Word list");
+           lexiconBox.addActionListener(e -> { // Start loading a newly picked list now, so the next game doesn't wait for it
+               LexiconRegistry.Entry picked = lexicons.get((String) lexiconModel.getSelectedItem());
+               if (picked != null && !picked.isLoaded()) {
+                   preloadLexicon(picked);
+               }
+           });
+           boardSizePanel.add(lexiconBox);
+       }
+       return boardSizePanel;
+   }
+
+
+   /**
+    * Loads a word list and its letter frequencies in the background, and tells the player on the event thread if it
+    * could not be loaded (the registry then has an empty list for it, so no words would be found).
+    *
+    * @param picked The word list
+    */
+   private void preloadLexicon(LexiconRegistry.Entry picked) {
+       new SwingWorker<Lexicon, Void>() {
+           @Override
+           protected Lexicon doInBackground() {
+               picked.generator();
+               return picked.lexicon();
+           }
+
+           @Override
+           protected void done() {
+               String problem;
+               try {
+                   problem = get().size() == 0 ? "it has no words" : null;
+               } catch (Exception ex) {
+                   ex.printStackTrace();
+                   problem = String.valueOf(ex.getCause() != null ? ex.getCause() : ex);
+               }
+               if (problem != null) {
+                   JOptionPane.showMessageDialog(MainFrame.this, "Could not load the word list " + picked.name() + " from "
+                           + picked.location() + ": " + problem, "Word list", JOptionPane.WARNING_MESSAGE);
+               }
+           }
+       }.execute();
+   }
+
+
+   /**
+    * Creates and returns the final panel that is displayed at the end of the game.
+    * This panel contains the game-over message, the final score, and additional stats.
+    * CONTRIBUTOR: Elle (Main), Lara (Main), Drae (Main)
+    *
+    * @return JPanel - the final panel
+    */
+   private JPanel createFinalPanel() {
+       finalPanel = new JPanel();
+       finalPanel.setLayout(new BorderLayout(10, 10));
+       finalPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+  
+       // "GAME OVER" label
+       JLabel finalLabel = new JLabel("GAME OVER");
+       finalLabel.setFont(mainFont);
+       finalLabel.setHorizontalAlignment(SwingConstants.CENTER);
+  
+       // Score label
+       finalScoreLabel = new JLabel(); 
+       finalScoreLabel.setFont(mainFont);
+       finalScoreLabel.setHorizontalAlignment(SwingConstants.CENTER);
+  
+       JPanel labelPanel = new JPanel();
+       labelPanel.setLayout(new BoxLayout(labelPanel, BoxLayout.Y_AXIS));
+      
+       finalLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+       finalScoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+      
+       labelPanel.add(finalLabel);
+       labelPanel.add(finalScoreLabel);
+       labelPanel.add(createBoardSizePanel(labelPanel.getBackground(), Color.BLACK)); // board size picker for the next game
+  
+       JPanel contentPanel = new JPanel();
+       contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+  
+       // Box for stats
+       statsArea = new JTextArea();
+       statsArea.setFont(mainFont.deriveFont(Font.PLAIN, 14));
+       statsArea.setEditable(false);
+       statsArea.setLineWrap(true);
+       statsArea.setWrapStyleWord(true);
+       statsArea.setBackground(finalPanel.getBackground());
+       statsArea.setPreferredSize(new Dimension(300, 160));
+  
+       // Box for words found
+       finalWordsArea = new JTextArea();
+       finalWordsArea.setFont(mainFont.deriveFont(Font.PLAIN, 14));
+       finalWordsArea.setEditable(false);
+       finalWordsArea.setLineWrap(true);
+       finalWordsArea.setWrapStyleWord(true);
+      
+       JScrollPane scrollPane = new JScrollPane(finalWordsArea);
+       scrollPane.setPreferredSize(new Dimension(300, 150));
+       scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
+  
+       contentPanel.add(statsArea);
+       contentPanel.add(Box.createRigidArea(new Dimension(0, 10))); // Add spacing
+       contentPanel.add(scrollPane);
+
+       // Adding timer buttons (LARA)
+       JPanel timerOptions = new JPanel (new FlowLayout(FlowLayout.CENTER,30,0));
+       timerOptions.setBackground(new Color(255, 255, 255));
+       timerOptions.add(thirtySeconds()); // 30 second timer button
+       timerOptions.add(sixtySeconds()); // 60 second timer button
+       timerOptions.add(ninetySeconds()); // 90 second timer button
+       timerOptions.add(oneTwentySeconds()); // 120 second timer button
+  
+  
+       // Adding all components to panel
+       finalPanel.add(labelPanel, BorderLayout.NORTH);     
+       finalPanel.add(contentPanel, BorderLayout.CENTER); 
+       finalPanel.add(timerOptions, BorderLayout.SOUTH);
+  
+       return finalPanel;
+   }
+  
+   /**
+    * Updates the final panel with the current score, the best possible score, stats, words found and words missed.
+    * This method is called when the game ends to reflect the final score and game statistics.
+    * CONTRIBUTOR: Drae
+    */
+   private void updateFinalPanel() {
+       // Update the score label with current score
+       finalScoreLabel.setText("SCORE: " + engine.score() + " / " + engine.boardSolution().maxScore() + " POSSIBLE");
+  
+       // Update stats area
+       statsArea.setText("STATS:\n" + engine.finalStatsText()
+               + "\nTo play again, click a desired number of seconds again below!");
+  
+       // Update words found area
+       List<String> missedWords = engine.boardSolution().missedWords(engine.wordsFound());
+       finalWordsArea.setText("Words Found:\n" + String.join(", ", engine.wordsFound())
+               + "\n\nMissed Words (" + missedWords.size() + "):\n" + String.join(", ", missedWords));
+   }
+
+
+  /**
+   * Resets the game state, including the score, timer, word formation, and the grid, then shows the grid panel.
+   * A word list picked for the first time, a new pool of boards and the daily board all take a while, so they are
+   * loaded on a background thread; the engine and the panels are only changed on the event thread once that is done.
+   * CONTRIBUTOR: Drae (Main), Lara (Editor)
+   */
+   private void resetGame(int selectedTime) {
+       if (startingGame) {
+           return; // Already getting a game ready
+       }
+       startingGame = true;
+
+       // The picked board size and word list
+       String selectedSize = (String) boardSizeModel.getSelectedItem();
+       final int newSize = Integer.parseInt(selectedSize.substring(0, selectedSize.indexOf('x')));
+       final LexiconRegistry.Entry newLexicon = lexicons.get((String) lexiconModel.getSelectedItem());
+       final boolean daily = dailyModel.isSelected();
+       final boolean poolChanged = newSize != boardSize || newLexicon != lexicon;
+       final BoardPool currentPool = boardPool;
+       final boolean playWarmBoard = warmBoardUnplayed && !poolChanged && !daily; // Not played yet, so this game gets it
+       warmBoardUnplayed = false;
+
+       new SwingWorker<BoardSolver.Solution, Void>() {
+           private BoardPool newPool;
+
+           @Override
+           protected BoardSolver.Solution doInBackground() {
+               if (playWarmBoard) {
+                   return null;
+               }
+               BoardPool pool = currentPool;
+               if (poolChanged) {
+                   newPool = createBoardPool(newLexicon, newSize); // Loads the word list the first time it is picked
+                   pool = newPool;
+               }
+               if (daily) {
+                   return newLexicon.solutions().solve(newLexicon.generator().generateDaily(newSize, LocalDate.now()));
+               }
+               return pool.next();
+           }
+
+           @Override
+           protected void done() {
+               startingGame = false;
+               BoardSolver.Solution solution;
+               try {
+                   solution = get();
+               } catch (Exception ex) {
+                   ex.printStackTrace();
+                   if (newPool != null) {
+                       newPool.close();
+                   }
+                   return; // Stay on the current panel; picking a time again tries again
+               }
+               // Switch to the picked board size and word list, with a pool of boards for them
+               if (newPool != null) {
+                   boardPool.close();
+                   boardPool = newPool;
+                   boardSize = newSize;
+               }
+               if (newLexicon != lexicon) {
+                   lexicon = newLexicon; // Kept loaded for the rest of the run
+                   engine.setDictionary(lexicon.lexicon());
+               }
+
+               // New board; also clears the score, the words found and the current word
+               if (solution != null) {
+                   engine.newRound(solution);
+               }
+               countdownTime = selectedTime;
+               timerLabel.setText("Time left: " + countdownTime + " seconds");
+               lbPoints.setText("SCORE: " + engine.score());
+               lbWord.clear();
+               foundWordsArea.setText("WORDS FOUND: ");
+               wordsShown = 0;
+               roundOver = false;
+
+               // Show the new letters
+               board.setBoard(engine.letterGrid(), engine.selection());
+               cardLayout.show(cardPanel, "Grid");
+
+               startTimer(selectedTime);
+           }
+       }.execute();
+   }
+
+
+   /**
+    * Main method
+    */
+   public static void main(String[] args) {
+       SwingUtilities.invokeLater(() -> { // Swing components are made on the event thread
+           MainFrame myFrame = new MainFrame();
+           myFrame.initialize();
+       });
+   }
+}
+
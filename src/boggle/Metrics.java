@@ -0,0 +1,301 @@
+package boggle;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+* Latency timers for the hot paths: loading the dictionary, looking up a word, generating a board, submitting a word,
+* and the game window's part of a submit, from the click that submits a word until the selection is cleared (which runs
+* on the event thread, so a slow one is a visible stall).
+*
+* Metrics are off unless the JVM is started with -Dboggle.metrics=true. ENABLED is a static final constant, so when it
+* is false the JIT drops the timing code entirely and the instrumented methods cost nothing extra.
+*
+* When enabled, each timer counts calls and keeps a histogram of their durations. Every counter is a LongAdder, which
+* spreads updates from different threads over separate cells, so server sessions timing at the same time don't
+* contend. The histogram is log-linear: 4 buckets for each power of 2 nanoseconds, so percentiles are within 25%.
+*
+* The timers are registered with JMX as boggle:type=Metrics,name=<timer> (see them in JConsole or VisualVM), and a
+* summary is written every boggle.metrics.intervalSeconds (default 60) and on exit, appended to the file named by
+* boggle.metrics.file, or printed to standard error if it isn't set.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/atomic/LongAdder.html
+* - https://docs.oracle.com/javase/8/docs/api/javax/management/MXBean.html
+* - http://hdrhistogram.org/
+*/
+public final class Metrics {
+    public static final String PROPERTY = "boggle.metrics";
+    public static final String FILE_PROPERTY = "boggle.metrics.file";
+    public static final String INTERVAL_PROPERTY = "boggle.metrics.intervalSeconds";
+
+    /** Whether timers record anything; read once when the class loads. */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final int SUB_BUCKET_BITS = 2; // 4 buckets per power of 2
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    public static final Timer DICTIONARY_LOAD = new Timer("dictionary.load");
+    public static final Timer WORD_LOOKUP = new Timer("word.lookup");
+    public static final Timer BOARD_GENERATE = new Timer("board.generate");
+    public static final Timer WORD_SUBMIT = new Timer("word.submit");
+    public static final Timer UI_SUBMIT = new Timer("ui.submit");
+
+    private static final Timer[] TIMERS = {DICTIONARY_LOAD, WORD_LOOKUP, BOARD_GENERATE, WORD_SUBMIT, UI_SUBMIT};
+
+    static {
+        if (ENABLED) {
+            register();
+            long interval = Math.max(1, Long.getLong(INTERVAL_PROPERTY, 60));
+            // The wheel thread only hands the dump off, since it writes a file
+            TimingWheel.shared().scheduleRepeating(() -> CompletableFuture.runAsync(Metrics::dump), interval, TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(Metrics::dump, "metrics-dump"));
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * What a timer shows over JMX. Times are in microseconds.
+     */
+    public interface TimerMXBean {
+        long getCount();
+
+        double getMeanMicros();
+
+        double getMaxMicros();
+
+        double getP50Micros();
+
+        double getP90Micros();
+
+        double getP99Micros();
+
+        /** Starts counting again from zero. */
+        void reset();
+    }
+
+    /**
+     * Counts the calls to one piece of code and how long they took. Every method can be called from any thread.
+     */
+    public static final class Timer implements TimerMXBean {
+        private final String name;
+        private final LongAdder count;
+        private final LongAdder totalNanos;
+        private final LongAccumulator maxNanos;
+        private final LongAdder[] buckets;
+
+        private Timer(String name) {
+            this.name = name;
+            // Nothing is allocated when metrics are off
+            this.count = ENABLED ? new LongAdder() : null;
+            this.totalNanos = ENABLED ? new LongAdder() : null;
+            this.maxNanos = ENABLED ? new LongAccumulator(Math::max, 0) : null;
+            this.buckets = ENABLED ? new LongAdder[BUCKETS] : null;
+            if (ENABLED) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] = new LongAdder();
+                }
+            }
+        }
+
+        /**
+         * Records one call that started at start.
+         *
+         * @param start The value returned by Metrics.start() when the call began
+         */
+        public void stop(long start) {
+            if (ENABLED) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Records one call.
+         *
+         * @param nanos How long it took
+         */
+        public void record(long nanos) {
+            if (!ENABLED) {
+                return;
+            }
+            nanos = Math.max(0, nanos);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets[bucket(nanos)].increment();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long getCount() {
+            return ENABLED ? count.sum() : 0;
+        }
+
+        @Override
+        public double getMeanMicros() {
+            long calls = getCount();
+            return calls == 0 ? 0 : totalNanos.sum() / 1000.0 / calls;
+        }
+
+        @Override
+        public double getMaxMicros() {
+            return ENABLED ? maxNanos.get() / 1000.0 : 0;
+        }
+
+        @Override
+        public double getP50Micros() {
+            return percentileNanos(50) / 1000.0;
+        }
+
+        @Override
+        public double getP90Micros() {
+            return percentileNanos(90) / 1000.0;
+        }
+
+        @Override
+        public double getP99Micros() {
+            return percentileNanos(99) / 1000.0;
+        }
+
+        @Override
+        public void reset() {
+            if (ENABLED) {
+                count.reset();
+                totalNanos.reset();
+                maxNanos.reset();
+                for (LongAdder bucket : buckets) {
+                    bucket.reset();
+                }
+            }
+        }
+
+        /**
+         * Nearest-rank percentile, reported as the top of its bucket (but never above the maximum).
+         * The buckets are summed while other threads may still be recording, so it is approximate under load.
+         *
+         * @param percent From 0 to 100
+         * @return The duration in nanoseconds, or 0 if nothing was recorded
+         */
+        public long percentileNanos(double percent) {
+            if (!ENABLED) {
+                return 0;
+            }
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percent / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketTop(i), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-15s count=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus max=%.1fus",
+                    name, getCount(), getMeanMicros(), getP50Micros(), getP90Micros(), getP99Micros(), getMaxMicros());
+        }
+    }
+
+    /**
+     * Marks the start of a timed call.
+     *
+     * @return The current time in nanoseconds, or 0 if metrics are off
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @return Every timer, one per line
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        for (Timer timer : TIMERS) {
+            report.append(timer).append('\n');
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to the metrics file, or standard error.
+     */
+    private static void dump() {
+        String text = "# " + Instant.now() + "\n" + report();
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isEmpty()) {
+            System.err.print(text);
+            return;
+        }
+        try {
+            Files.write(Path.of(file), text.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    private static void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (Timer timer : TIMERS) {
+            try {
+                server.registerMBean(timer, new ObjectName("boggle:type=Metrics,name=" + timer.name));
+            } catch (JMException ex) {
+                ex.printStackTrace(); // The timer still records, it just isn't visible over JMX
+            }
+        }
+    }
+
+    /**
+     * Values below 4 ns get a bucket each; above that, the bucket is the power of 2 and the next 2 bits below it.
+     */
+    private static int bucket(long nanos) {
+        if (nanos < (1 << SUB_BUCKET_BITS)) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    /**
+     * @return The largest duration that falls in a bucket
+     */
+    private static long bucketTop(int bucket) {
+        if (bucket < (1 << SUB_BUCKET_BITS)) {
+            return bucket;
+        }
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long sub = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+        long low = (1L << exponent) + (sub << (exponent - SUB_BUCKET_BITS));
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return low + (width - 1);
+    }
+}
@@ -0,0 +1,149 @@
+package boggle;
+
+/**
+* The cells the player has clicked so far, in order, and the word they spell.
+* Cells are int ids from BoardGeometry. Which cells are already in the path is kept as a bitmask,
+* so checking a cell is a single bit test. The letters go into a reusable char buffer, and the path
+* can be read as a CharSequence, so it can be looked up in the Lexicon without making a String.
+*
+* Next to each letter the path keeps the Lexicon node reached after it, like a stack of dictionary cursors.
+* Adding a letter only steps one node further, and removing one just pops back to the node before,
+* so the dictionary is never searched again from the root while the player builds a word.
+*
+* Buffers are sized for the biggest board once, so adding and removing cells never allocates.
+*/
+public final class SelectionPath implements CharSequence {
+    private BoardGeometry geometry;
+    private final int[] cells;
+    private final char[] letters;
+    private final int[] nodes;
+    private final long[] selected;
+    private int length;
+
+    /**
+     * @param geometry The board the path is on
+     */
+    public SelectionPath(BoardGeometry geometry) {
+        int maxCells = BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE;
+        this.cells = new int[maxCells];
+        this.letters = new char[maxCells];
+        this.nodes = new int[maxCells];
+        this.selected = new long[(maxCells + 63) / 64];
+        reset(geometry);
+    }
+
+    /**
+     * Empties the path and moves it to a (possibly different) board.
+     *
+     * @param geometry The board the path is on
+     */
+    public void reset(BoardGeometry geometry) {
+        this.geometry = geometry;
+        clear();
+    }
+
+    /**
+     * Empties the path.
+     */
+    public void clear() {
+        for (int i = 0; i < length; i++) {
+            selected[cells[i] >>> 6] = 0; // Only the words that were used need clearing
+        }
+        length = 0;
+    }
+
+    /**
+     * @param cell A cell id
+     * @return true if the cell is already in the path
+     */
+    public boolean contains(int cell) {
+        return (selected[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * @param cell A cell id
+     * @return true if the cell is not in the path yet and touches the last cell (or the path is empty)
+     */
+    public boolean canAdd(int cell) {
+        return !contains(cell) && (length == 0 || geometry.isAdjacent(cells[length - 1], cell));
+    }
+
+    /**
+     * Adds a cell to the end of the path. Call canAdd first.
+     *
+     * @param cell The cell id
+     * @param letter The letter on that cell
+     * @param node The Lexicon node reached by stepping from node() with this letter (Lexicon.NONE for a dead end)
+     */
+    public void add(int cell, char letter, int node) {
+        cells[length] = cell;
+        letters[length] = letter;
+        nodes[length] = node;
+        selected[cell >>> 6] |= 1L << cell;
+        length++;
+    }
+
+    /**
+     * Removes the last cell from the path.
+     *
+     * @return The cell that was removed, or -1 if the path was empty
+     */
+    public int removeLast() {
+        if (length == 0) {
+            return -1;
+        }
+        int cell = cells[--length];
+        selected[cell >>> 6] &= ~(1L << cell);
+        return cell;
+    }
+
+    /**
+     * @return The last cell in the path, or -1 if the path is empty
+     */
+    public int last() {
+        return length == 0 ? -1 : cells[length - 1];
+    }
+
+    /**
+     * @return The Lexicon node the path has reached: Lexicon.ROOT if the path is empty,
+     *         Lexicon.NONE if no word starts with the path
+     */
+    public int node() {
+        return length == 0 ? Lexicon.ROOT : nodes[length - 1];
+    }
+
+    /**
+     * @param index A position in the path
+     * @return The cell at that position
+     */
+    public int cell(int index) {
+        return cells[index];
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return letters[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(letters, 0, length);
+    }
+}
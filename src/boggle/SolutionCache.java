@@ -0,0 +1,266 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+* Remembers solved boards, so a board that comes up again (the daily board, a seeded round, a tournament)
+* doesn't have to be solved again.
+*
+* A board is stored under a canonical key: its letters, one byte per cell, read in whichever of the 8 rotations
+* and reflections gives the smallest bytes. A board and its rotated or mirrored copies have the same words, so
+* they share one entry; on a hit the word paths are mapped back onto the board that was asked for.
+*
+* Entries are kept in least-recently-used order and the oldest are dropped once the estimated size of
+* all entries goes over the memory budget. Every method can be called from any thread.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/LinkedHashMap.html#removeEldestEntry-java.util.Map.Entry-
+* - https://en.wikipedia.org/wiki/Dihedral_group
+*/
+public final class SolutionCache {
+    public static final String BUDGET_PROPERTY = "boggle.solutionCacheBytes";
+    public static final long DEFAULT_BUDGET_BYTES = 32L << 20;
+
+    // Rough sizes used to estimate an entry's memory: map entry, key, Solution, and per word the FoundWord,
+    // its String, its path array and its HashMap entry
+    private static final int ENTRY_BYTES = 200;
+    private static final int WORD_BYTES = 160;
+    private static final int LETTER_BYTES = 6; // 2 for the char in the word, 4 for the cell in the path
+
+    // SYMMETRIES[size][t][cell] is the cell of the original board that lands on cell after symmetry t
+    private static final int[][][] SYMMETRIES = new int[BoardGeometry.MAX_SIZE + 1][][];
+    static {
+        for (int size = BoardGeometry.MIN_SIZE; size <= BoardGeometry.MAX_SIZE; size++) {
+            SYMMETRIES[size] = symmetries(size);
+        }
+    }
+
+    private final ThreadLocal<BoardSolver> solvers;
+    private final long budgetBytes;
+    private final LinkedHashMap<Key, BoardSolver.Solution> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param dictionary The dictionary used to solve boards
+     * @param budgetBytes Roughly how much memory the cached solutions may use
+     */
+    public SolutionCache(Lexicon dictionary, long budgetBytes) {
+        this.solvers = ThreadLocal.withInitial(() -> new BoardSolver(dictionary));
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Creates a cache with the budget set by the boggle.solutionCacheBytes property, or 32 MB.
+     *
+     * @param dictionary The dictionary used to solve boards
+     */
+    public SolutionCache(Lexicon dictionary) {
+        this(dictionary, Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_BYTES));
+    }
+
+    /**
+     * Returns the solution of a board, solving it only if neither it nor any rotation or reflection of it is cached.
+     *
+     * @param grid The square letter grid, one uppercase letter per cell
+     * @return The solution, with paths on this grid
+     */
+    public BoardSolver.Solution solve(String[][] grid) {
+        int size = grid.length;
+        int[][] symmetries = SYMMETRIES[size];
+        byte[] letters = new byte[size * size];
+        for (int cell = 0; cell < letters.length; cell++) {
+            letters[cell] = (byte) grid[cell / size][cell % size].charAt(0);
+        }
+        int symmetry = canonicalSymmetry(letters, symmetries);
+        Key key = new Key(apply(letters, symmetries[symmetry]));
+
+        BoardSolver.Solution canonical;
+        synchronized (entries) {
+            canonical = entries.get(key);
+        }
+        if (canonical != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            canonical = solvers.get().solve(toGrid(key.letters, size)); // Solved outside the lock
+            put(key, canonical);
+        }
+        return mapBack(canonical, grid, symmetries[symmetry]);
+    }
+
+    /**
+     * @return The number of boards found in the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of boards that had to be solved
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of boards dropped to stay within the budget
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of cached boards
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return The estimated memory used by the cached boards
+     */
+    public long usedBytes() {
+        synchronized (entries) {
+            return usedBytes;
+        }
+    }
+
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    private void put(Key key, BoardSolver.Solution solution) {
+        long bytes = estimateBytes(key, solution);
+        if (bytes > budgetBytes) {
+            return; // Would push everything else out
+        }
+        synchronized (entries) {
+            BoardSolver.Solution old = entries.put(key, solution);
+            if (old != null) {
+                usedBytes -= estimateBytes(key, old); // Another thread solved the same board at the same time
+            }
+            usedBytes += bytes;
+            Iterator<Map.Entry<Key, BoardSolver.Solution>> eldest = entries.entrySet().iterator();
+            while (usedBytes > budgetBytes && eldest.hasNext()) {
+                Map.Entry<Key, BoardSolver.Solution> entry = eldest.next();
+                usedBytes -= estimateBytes(entry.getKey(), entry.getValue());
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static long estimateBytes(Key key, BoardSolver.Solution solution) {
+        long bytes = ENTRY_BYTES + key.letters.length;
+        for (BoardSolver.FoundWord word : solution.words()) {
+            bytes += WORD_BYTES + (long) LETTER_BYTES * word.word().length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Rebuilds the solution for the grid that was asked for, moving each path from the canonical board back onto it.
+     */
+    private static BoardSolver.Solution mapBack(BoardSolver.Solution canonical, String[][] grid, int[] symmetry) {
+        List<BoardSolver.FoundWord> words = new ArrayList<>(canonical.wordCount());
+        for (BoardSolver.FoundWord word : canonical.words()) {
+            int[] path = word.path(); // A copy
+            for (int i = 0; i < path.length; i++) {
+                path[i] = symmetry[path[i]];
+            }
+            words.add(new BoardSolver.FoundWord(word.word(), word.score(), path));
+        }
+        return new BoardSolver.Solution(grid, words);
+    }
+
+    /**
+     * @return The index of the symmetry giving the smallest letters
+     */
+    private static int canonicalSymmetry(byte[] letters, int[][] symmetries) {
+        int best = 0;
+        for (int t = 1; t < symmetries.length; t++) {
+            for (int cell = 0; cell < letters.length; cell++) {
+                int difference = letters[symmetries[t][cell]] - letters[symmetries[best][cell]];
+                if (difference != 0) {
+                    if (difference < 0) {
+                        best = t;
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static byte[] apply(byte[] letters, int[] symmetry) {
+        byte[] moved = new byte[letters.length];
+        for (int cell = 0; cell < letters.length; cell++) {
+            moved[cell] = letters[symmetry[cell]];
+        }
+        return moved;
+    }
+
+    private static String[][] toGrid(byte[] letters, int size) {
+        String[][] grid = new String[size][size];
+        for (int cell = 0; cell < letters.length; cell++) {
+            grid[cell / size][cell % size] = String.valueOf((char) letters[cell]);
+        }
+        return grid;
+    }
+
+    /**
+     * The 4 rotations, each with and without a mirror flip.
+     */
+    private static int[][] symmetries(int size) {
+        int[][] symmetries = new int[8][size * size];
+        int last = size - 1;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int cell = row * size + col;
+                symmetries[0][cell] = row * size + col;
+                symmetries[1][cell] = (last - col) * size + row;
+                symmetries[2][cell] = (last - row) * size + (last - col);
+                symmetries[3][cell] = col * size + (last - row);
+                symmetries[4][cell] = row * size + (last - col);
+                symmetries[5][cell] = col * size + row;
+                symmetries[6][cell] = (last - row) * size + col;
+                symmetries[7][cell] = (last - col) * size + (last - row);
+            }
+        }
+        return symmetries;
+    }
+
+    /**
+     * The canonical letters of a board; the length gives the size.
+     */
+    private static final class Key {
+        private final byte[] letters;
+        private final int hash;
+
+        Key(byte[] letters) {
+            this.letters = letters;
+            this.hash = Arrays.hashCode(letters);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.equals(letters, ((Key) other).letters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
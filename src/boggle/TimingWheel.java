@@ -0,0 +1,225 @@
+package boggle;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+* Runs delayed and repeating tasks for any number of game rounds on a single thread, using a hashed timing wheel.
+*
+* Time is cut into ticks, and the wheel has WHEEL_SIZE slots, each a linked list of the timeouts due in that slot
+* (a timeout far in the future simply waits for the wheel to come round enough times). Scheduling and cancelling
+* only put the timeout on a lock-free queue, so both are O(1) from any thread. The wheel thread takes new and
+* cancelled timeouts off the queues once per tick, links or unlinks them in O(1), and runs what is due.
+*
+* Tasks run on the wheel thread, so they must be quick: hand anything slow to another thread
+* (SwingUtilities.invokeLater for the GUI, an executor for network sessions).
+*
+* SOURCES:
+* - https://www.cs.columbia.edu/~nahum/w6998/papers/ton97-timing-wheels.pdf
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentLinkedQueue.html
+*/
+public final class TimingWheel implements AutoCloseable {
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 512; // A power of 2, so the slot is the tick masked
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int DONE = 2;
+
+    private final long tickNanos;
+    private final Timeout[] wheel = new Timeout[WHEEL_SIZE]; // Head of each slot's list; only used by the wheel thread
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean closed;
+    private long tick; // The tick being processed; only used by the wheel thread
+
+    /**
+     * A scheduled task. Cancelling it is O(1) and can be done from any thread, even from inside the task.
+     */
+    public final class Timeout {
+        private final Runnable task;
+        private final long periodTicks; // 0 for a task that runs once
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long deadlineTick;
+        private int slot = -1; // -1 while not in the wheel
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineTick, long periodTicks) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+            this.periodTicks = periodTicks;
+        }
+
+        /**
+         * Stops the task from running (again).
+         *
+         * @return false if it had already been cancelled, or had already run and doesn't repeat
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            cancelled.add(this); // The wheel thread unlinks it on its next tick
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * Creates a wheel and starts its thread.
+     *
+     * @param tickMillis How often the wheel moves on; tasks run up to one tick late
+     */
+    public TimingWheel(long tickMillis) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        worker = new Thread(this::run, "timing-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private static final class Shared {
+        static final TimingWheel INSTANCE = new TimingWheel(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * @return The wheel shared by everything in this process, created the first time it is asked for
+     */
+    public static TimingWheel shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Runs a task once after a delay.
+     *
+     * @param task The task; runs on the wheel thread
+     * @param delay How long to wait
+     * @param unit The unit of the delay
+     * @return The timeout, for cancelling
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(task, ticksFor(delay, unit), 0);
+    }
+
+    /**
+     * Runs a task every period, starting one period from now, until it is cancelled.
+     *
+     * @param task The task; runs on the wheel thread
+     * @param period The time between runs (at least one tick)
+     * @param unit The unit of the period
+     * @return The timeout, for cancelling
+     */
+    public Timeout scheduleRepeating(Runnable task, long period, TimeUnit unit) {
+        long periodTicks = Math.max(1, ticksFor(period, unit));
+        return add(task, periodTicks, periodTicks);
+    }
+
+    /**
+     * Stops the wheel thread. Tasks that have not run yet never will.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+    }
+
+    private Timeout add(Runnable task, long delayTicks, long periodTicks) {
+        if (closed) {
+            throw new IllegalStateException("timing wheel is closed");
+        }
+        long now = (System.nanoTime() - startNanos) / tickNanos;
+        Timeout timeout = new Timeout(task, now + delayTicks, periodTicks);
+        added.add(timeout);
+        return timeout;
+    }
+
+    private long ticksFor(long delay, TimeUnit unit) {
+        return (unit.toNanos(delay) + tickNanos - 1) / tickNanos; // Round up, so a task never runs early
+    }
+
+    private void run() {
+        while (!closed) {
+            // Sleep until the end of the current tick, measured from the start so the ticks don't drift
+            long wakeUp = startNanos + (tick + 1) * tickNanos;
+            for (long wait = wakeUp - System.nanoTime(); wait > 0 && !closed; wait = wakeUp - System.nanoTime()) {
+                LockSupport.parkNanos(this, wait);
+            }
+
+            for (Timeout timeout; (timeout = cancelled.poll()) != null; ) {
+                unlink(timeout);
+            }
+            for (Timeout timeout; (timeout = added.poll()) != null; ) {
+                if (timeout.state.get() == PENDING) {
+                    link(timeout);
+                }
+            }
+            expire();
+            tick++;
+        }
+    }
+
+    /**
+     * Runs everything in the current slot that is due this tick. Timeouts due on a later turn of the wheel stay put.
+     */
+    private void expire() {
+        Timeout timeout = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineTick <= tick) {
+                unlink(timeout);
+                boolean repeats = timeout.periodTicks > 0;
+                if (repeats ? timeout.state.get() == PENDING : timeout.state.compareAndSet(PENDING, DONE)) {
+                    try {
+                        timeout.task.run();
+                    } catch (RuntimeException | Error ex) {
+                        ex.printStackTrace(); // One bad task shouldn't stop every other timer
+                    }
+                }
+                if (repeats && timeout.state.get() == PENDING) {
+                    // If the wheel fell behind, skip the missed runs rather than firing them all at once
+                    timeout.deadlineTick = Math.max(timeout.deadlineTick + timeout.periodTicks, tick + 1);
+                    link(timeout); // Goes to the head of a slot, so this loop never sees it again this tick
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout timeout) {
+        timeout.deadlineTick = Math.max(timeout.deadlineTick, tick); // Late arrivals run this tick
+        int slot = (int) (timeout.deadlineTick & (WHEEL_SIZE - 1));
+        Timeout head = wheel[slot];
+        timeout.slot = slot;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        wheel[slot] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.slot < 0) {
+            return; // Not in the wheel (never linked, or already removed)
+        }
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            wheel[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.slot = -1;
+        timeout.previous = null;
+        timeout.next = null;
+    }
+}
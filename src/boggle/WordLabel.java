@@ -0,0 +1,88 @@
+package boggle;
+
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.RenderingHints;
+import javax.swing.JComponent;
+
+/**
+* A one-line label for the word being spelled. JLabel only takes a String, so updating it on every click made a new
+* String each time; this copies the letters into a char buffer it keeps, and draws them straight from there.
+*
+* The buffer is sized for the longest path on the biggest board, so showing a word never allocates.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/awt/Graphics.html#drawChars-char:A-int-int-int-int-
+*/
+public final class WordLabel extends JComponent {
+    private final char[] letters = new char[BoardGeometry.MAX_SIZE * BoardGeometry.MAX_SIZE];
+    private int length;
+    private int shownWidth = -1; // Width of the letters when the layout last asked
+
+    /**
+     * Shows a word, copying its letters. Longer words are cut off at the longest path a board can have.
+     *
+     * @param word The word, for example the engine's SelectionPath
+     */
+    public void setWord(CharSequence word) {
+        int newLength = Math.min(word.length(), letters.length);
+        boolean changed = newLength != length;
+        for (int i = 0; i < newLength; i++) {
+            char letter = word.charAt(i);
+            changed |= letters[i] != letter;
+            letters[i] = letter;
+        }
+        length = newLength;
+        if (!changed) {
+            return;
+        }
+        if (textWidth() != shownWidth) {
+            revalidate(); // Wider or narrower than before
+        }
+        repaint();
+    }
+
+    /**
+     * Shows nothing.
+     */
+    public void clear() {
+        setWord("");
+    }
+
+    private int textWidth() {
+        return getFont() == null ? 0 : getFontMetrics(getFont()).charsWidth(letters, 0, length);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet() || getFont() == null) {
+            return super.getPreferredSize();
+        }
+        Insets insets = getInsets();
+        shownWidth = textWidth();
+        return new Dimension(shownWidth + insets.left + insets.right,
+                getFontMetrics(getFont()).getHeight() + insets.top + insets.bottom);
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        if (length == 0) {
+            return;
+        }
+        Graphics2D g = (Graphics2D) graphics.create();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setFont(getFont());
+            g.setColor(getForeground());
+            FontMetrics metrics = g.getFontMetrics();
+            Insets insets = getInsets();
+            int y = insets.top + (getHeight() - insets.top - insets.bottom - metrics.getHeight()) / 2 + metrics.getAscent();
+            g.drawChars(letters, 0, length, insets.left, y);
+        } finally {
+            g.dispose();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package boggle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+* Checks submitted words on a background thread, so the event thread never waits for a dictionary lookup, the
+* scoring, or the game history being written at the end of a round.
+*
+* Words go on a queue with a single consumer thread, which submits them to the engine in the order they were
+* given. Whatever is on the queue when the thread wakes up is checked together, and the results are posted back
+* to the event thread with one SwingUtilities.invokeLater, in the same order. Ending the round goes through the
+* same queue, so every word submitted before the time ran out is counted first.
+*
+* While a round is on, the validation thread owns the engine's round state (the words found, the score, and the
+* stats updated at the end); the event thread only changes the selection, which the validation thread never touches
+* (GameEngine.endRound leaves it alone). The event thread can use the rest of the
+* engine again once the round-ended callback has run, and until it submits the first word of the next round.
+*
+* SOURCES:
+* - https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/BlockingQueue.html#drainTo-java.util.Collection-int-
+* - https://docs.oracle.com/javase/tutorial/uiswing/concurrency/dispatch.html
+*/
+public final class WordValidator implements AutoCloseable {
+    private static final int MAX_BATCH = 64;
+
+    private final GameEngine engine;
+    private final Consumer<List<Result>> listener;
+    private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+
+    /**
+     * A checked word.
+     */
+    public static final class Result {
+        private final String word;
+        private final GameEngine.SubmitResult result;
+        private final int score;
+
+        Result(String word, GameEngine.SubmitResult result, int score) {
+            this.word = word;
+            this.result = result;
+            this.score = score;
+        }
+
+        public String word() {
+            return word;
+        }
+
+        public GameEngine.SubmitResult result() {
+            return result;
+        }
+
+        /**
+         * @return The round's score once this word was counted
+         */
+        public int score() {
+            return score;
+        }
+    }
+
+    /**
+     * A word to check, or the end of the round if roundEnded is set.
+     */
+    private static final class Task {
+        final String word;
+        final int node;
+        final Runnable roundEnded;
+
+        Task(String word, int node, Runnable roundEnded) {
+            this.word = word;
+            this.node = node;
+            this.roundEnded = roundEnded;
+        }
+    }
+
+    /**
+     * Starts the validation thread.
+     *
+     * @param engine The engine words are submitted to
+     * @param listener Gets each batch of results, on the event thread
+     */
+    public WordValidator(GameEngine engine, Consumer<List<Result>> listener) {
+        this.engine = engine;
+        this.listener = listener;
+        worker = new Thread(this::run, "word-validator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queues a word spelled on the board. Returns straight away.
+     *
+     * @param word The word, in uppercase
+     * @param node The dictionary node the path ended on (SelectionPath.node())
+     */
+    public void submit(String word, int node) {
+        queue.add(new Task(word, node, null));
+    }
+
+    /**
+     * Ends the round once every word queued before it has been checked. The stats are recorded on the validation
+     * thread, then roundEnded runs on the event thread, after the last results have been posted.
+     *
+     * @param roundEnded What to do on the event thread when the round is over
+     */
+    public void endRound(Runnable roundEnded) {
+        queue.add(new Task(null, Lexicon.NONE, roundEnded));
+    }
+
+    @Override
+    public void close() {
+        worker.interrupt();
+    }
+
+    private void run() {
+        List<Task> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                List<Result> results = new ArrayList<>(batch.size());
+                for (Task task : batch) {
+                    if (task.roundEnded == null) {
+                        GameEngine.SubmitResult result = engine.submitSpelled(task.word, task.node);
+                        results.add(new Result(task.word, result, engine.score()));
+                    } else {
+                        engine.endRound();
+                        post(results, task.roundEnded);
+                        results = new ArrayList<>();
+                    }
+                }
+                post(results, null);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            // Closed
+        }
+    }
+
+    private void post(List<Result> results, Runnable then) {
+        if (results.isEmpty() && then == null) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (!results.isEmpty()) {
+                listener.accept(results);
+            }
+            if (then != null) {
+                then.run();
+            }
+        });
+    }
+}
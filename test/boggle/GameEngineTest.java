@@ -0,0 +1,53 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+* Rounds played through the engine with a game history behind it.
+*/
+class GameEngineTest {
+    private static final Lexicon LEXICON = Lexicon.of(List.of("cat", "act", "dog", "toad"));
+    private static final String[][] GRID = {{"C", "A", "T"}, {"D", "O", "G"}, {"X", "X", "X"}};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void gameIsCountedOnceWhenOnlyTheSyncFails() throws IOException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore history = GameHistoryStore.open(log)) {
+            // A directory where the index should be, so every sync fails after the record is written
+            Files.createDirectory(log.resolveSibling("history.log.idx"));
+            GameEngine engine = new GameEngine(LEXICON, size -> new BoardSolver(LEXICON).solve(GRID), history);
+
+            for (int round = 1; round <= 40; round++) {
+                engine.newRound(3);
+                engine.submitWord("cat");
+                engine.endRound();
+                assertEquals(round, history.size());
+                assertEquals(round, engine.statistics().games());
+                assertEquals(300.0, engine.statistics().meanScore(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void gameIsCountedInMemoryWhenTheWriteFails() throws IOException {
+        Path log = dir.resolve("history.log");
+        GameHistoryStore history = GameHistoryStore.open(log);
+        GameEngine engine = new GameEngine(LEXICON, size -> new BoardSolver(LEXICON).solve(GRID), history);
+        history.close(); // Every append now fails before anything is written
+
+        engine.newRound(3);
+        engine.endRound();
+        assertEquals(0, history.size());
+        assertEquals(1, engine.statistics().games());
+    }
+}
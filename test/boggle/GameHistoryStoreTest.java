@@ -0,0 +1,150 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+* Crash recovery and index catch-up of the game history log.
+*/
+class GameHistoryStoreTest {
+    private static final int HEADER_BYTES = 16;
+
+    @TempDir
+    Path dir;
+
+    private static GameHistoryStore.GameRecord game(int i) {
+        return new GameHistoryStore.GameRecord(1_000L * i, 3 + i % 4, 100 * i, 10_000, i % 7, i % 2 == 0 ? "TOAD" : "");
+    }
+
+    private static void appendGames(GameHistoryStore store, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            store.append(game(i));
+        }
+    }
+
+    private static Path index(Path log) {
+        return log.resolveSibling(log.getFileName() + ".idx");
+    }
+
+    /**
+     * @return The number of records the index covers, or -1 if there is no index yet
+     */
+    private static long indexedRecords(Path log) throws IOException {
+        Path index = index(log);
+        return Files.exists(index) ? ByteBuffer.wrap(Files.readAllBytes(index)).getLong(8) : -1;
+    }
+
+    @Test
+    void tornLastRecordIsCutOffOnOpen() throws IOException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 5);
+        }
+        // A crash in the middle of writing the 6th record
+        Files.write(log, new byte[GameHistoryStore.RECORD_BYTES / 2], StandardOpenOption.APPEND);
+
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            assertEquals(5, store.size());
+            assertEquals(5, store.statistics().games());
+            assertEquals(400, store.read(4).score());
+        }
+        assertEquals(HEADER_BYTES + 5L * GameHistoryStore.RECORD_BYTES, Files.size(log));
+    }
+
+    @Test
+    void damagedRecordAndEverythingAfterItIsDropped() throws IOException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 5);
+        }
+        Files.delete(index(log)); // Otherwise the index vouches for all 5 records
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), HEADER_BYTES + 3L * GameHistoryStore.RECORD_BYTES + 9);
+        }
+
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            assertEquals(3, store.size());
+            assertEquals(3, store.statistics().games());
+            assertEquals(200, store.statistics().highestScore());
+        }
+    }
+
+    @Test
+    void indexCatchesUpWithRecordsWrittenAfterTheLastSync() throws IOException {
+        Path log = dir.resolve("history.log");
+        Path crashed = dir.resolve("crashed.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 40); // Synced (and indexed) at 32 at the latest, the rest only written
+            // What a crash right now would leave on disk
+            Files.copy(log, crashed);
+            Files.copy(index(log), index(crashed));
+        }
+
+        try (GameHistoryStore store = GameHistoryStore.open(crashed)) {
+            assertEquals(40, store.size());
+            assertEquals(40, store.statistics().games());
+            assertEquals(3900, store.statistics().highestScore());
+            assertEquals(1950.0, store.statistics().meanScore(), 1e-9);
+        }
+        // The index now covers every record, so opening again reads none of them
+        try (GameHistoryStore store = GameHistoryStore.open(crashed)) {
+            assertEquals(40, store.statistics().games());
+        }
+    }
+
+    @Test
+    void lastGameIsSyncedWithoutAnotherAppend() throws IOException, InterruptedException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 1);
+            assertEquals(true, indexedRecords(log) < 1); // Not synced straight away
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (indexedRecords(log) < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(1, indexedRecords(log)); // Synced about a second later, with the store still open
+        }
+    }
+
+    @Test
+    void missingIndexIsRebuiltFromTheLog() throws IOException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 10);
+        }
+        Files.delete(index(log));
+
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            assertEquals(10, store.statistics().games());
+            assertEquals(900, store.statistics().highestScore());
+        }
+        assertEquals(true, Files.exists(index(log)));
+    }
+
+    @Test
+    void indexAheadOfTheLogIsIgnored() throws IOException {
+        Path log = dir.resolve("history.log");
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            appendGames(store, 0, 10);
+        }
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER_BYTES + 6L * GameHistoryStore.RECORD_BYTES);
+        }
+
+        try (GameHistoryStore store = GameHistoryStore.open(log)) {
+            assertEquals(6, store.size());
+            assertEquals(6, store.statistics().games());
+            assertEquals(500, store.statistics().highestScore());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+/**
+* Percentiles and the binary form of GameStatistics, whose histograms grow as higher scores come in.
+*/
+class GameStatisticsTest {
+    private static GameHistoryStore.GameRecord game(int score, int words) {
+        return new GameHistoryStore.GameRecord(0, 4, score, 0, words, "");
+    }
+
+    @Test
+    void percentilesSpanGrownAndOverflowBuckets() {
+        GameStatistics statistics = new GameStatistics();
+        for (int i = 1; i <= 98; i++) {
+            statistics.add(game(100 * i, i));
+        }
+        statistics.add(game(5_000_000, 9_000)); // Both past the last bucket
+        statistics.add(game(5_000_000, 9_000));
+
+        assertEquals(100, statistics.games());
+        assertEquals(5000, statistics.scorePercentile(50));
+        assertEquals(9800, statistics.scorePercentile(98));
+        assertEquals(5_000_000, statistics.scorePercentile(99));
+        assertEquals(90, statistics.wordCountPercentile(90));
+        assertEquals(9_000, statistics.wordCountPercentile(100));
+    }
+
+    @Test
+    void binaryFormIsFullSizeAndReadsBack() {
+        GameStatistics statistics = new GameStatistics();
+        statistics.add(game(300, 1));
+        statistics.add(game(2_500, 7));
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameStatistics.BYTES);
+        statistics.write(buffer);
+        assertEquals(GameStatistics.BYTES, buffer.position());
+
+        buffer.flip();
+        GameStatistics read = GameStatistics.read(buffer);
+        assertEquals(2, read.games());
+        assertEquals(300, read.scorePercentile(50));
+        assertEquals(2_500, read.scorePercentile(100));
+        read.add(game(90_000, 300)); // Grows past what was read
+        assertEquals(90_000, read.scorePercentile(100));
+        assertEquals(300, read.wordCountPercentile(100));
+    }
+}
@@ -0,0 +1,69 @@
+package boggle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+* Merging Lexicon builders, as the parallel dictionary parse does.
+*/
+class LexiconTest {
+
+    private static List<String> randomWords(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] letters = new char[1 + random.nextInt(random.nextInt(10) == 0 ? 60 : 8)]; // A few longer than the merge's path buffer
+            for (int j = 0; j < letters.length; j++) {
+                letters[j] = (char) ('a' + random.nextInt(26));
+            }
+            words.add(new String(letters));
+        }
+        return words;
+    }
+
+    @Test
+    void mergedBuildersMatchOneBuilderWithEveryWord() {
+        List<String> words = randomWords(20_000, 7);
+        words.addAll(words.subList(0, 3_000)); // Words in both halves are only counted once
+
+        Lexicon.Builder all = new Lexicon.Builder();
+        Lexicon.Builder left = new Lexicon.Builder();
+        Lexicon.Builder right = new Lexicon.Builder();
+        for (int i = 0; i < words.size(); i++) {
+            all.add(words.get(i));
+            (i % 2 == 0 ? left : right).add(words.get(i));
+        }
+        left.addAll(right);
+        Lexicon expected = all.build();
+        Lexicon merged = left.build();
+
+        assertEquals(expected.size(), merged.size());
+        assertEquals(expected.nodeCount(), merged.nodeCount());
+        for (int i = 0; i < 26; i++) {
+            assertEquals(expected.letterCount(i), merged.letterCount(i));
+        }
+        for (String word : words) {
+            assertTrue(merged.contains(word), word);
+        }
+        for (String word : randomWords(2_000, 8)) {
+            assertEquals(expected.contains(word), merged.contains(word), word);
+        }
+    }
+
+    @Test
+    void mergingAnEmptyBuilderChangesNothing() {
+        Lexicon.Builder builder = new Lexicon.Builder();
+        builder.add("toad");
+        builder.addAll(new Lexicon.Builder());
+        Lexicon lexicon = builder.build();
+        assertEquals(1, lexicon.size());
+        assertTrue(lexicon.contains("toad"));
+        assertFalse(lexicon.contains("toa"));
+    }
+}